@@ -0,0 +1,64 @@
+package io.github.cleverton.heusner.benchmark;
+
+import io.github.cleverton.heusner.fixture.Author;
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Pet;
+import io.github.cleverton.heusner.fixture.Post;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+final class BenchmarkFixtures {
+
+    private static final Date DATE_PUBLISHED = new Date(1_700_000_000_000L);
+
+    private BenchmarkFixtures() {
+    }
+
+    static Post post(final int comments, final int replyDepth) {
+        final var post = new Post();
+        post.setId(1);
+        post.setTitle("Title");
+        post.setText("Text of the post");
+        post.setDatePublished(DATE_PUBLISHED);
+        post.setViews(1_000);
+        post.setLikes(100);
+        post.setAuthor(author(1));
+        post.setComments(IntStream.range(0, comments)
+                .mapToObj(i -> comment(i, replyDepth))
+                .toList());
+
+        return post;
+    }
+
+    private static Comment comment(final long id, final int replyDepth) {
+        final var comment = new Comment();
+        comment.setId(id);
+        comment.setText("Text of the comment " + id);
+        comment.setDatePublished(DATE_PUBLISHED);
+        comment.setAuthor(author(id));
+        comment.setReplies(replyDepth == 0 ? List.of() : List.of(comment(id, replyDepth - 1)));
+
+        return comment;
+    }
+
+    private static Author author(final long id) {
+        final var pet = new Pet();
+        pet.setName("Pet " + id);
+        pet.setNickName("Nick " + id);
+        pet.setAge(3);
+
+        final var author = new Author();
+        author.setId(id);
+        author.setName("Author " + id);
+        author.setEmail("author" + id + "@email.com");
+        author.setNickName("author" + id);
+        author.setPet(pet);
+        author.setPhoneNumbers(List.of("+55 11 99999-0000", "+55 11 98888-0000"));
+        author.setBooks(Set.of("Book 1", "Book 2"));
+
+        return author;
+    }
+}
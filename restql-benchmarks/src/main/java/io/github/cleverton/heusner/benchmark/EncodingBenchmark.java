@@ -0,0 +1,85 @@
+package io.github.cleverton.heusner.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.query.RestQlQuery;
+import io.github.cleverton.heusner.query.RestQlSelection;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodingBenchmark {
+
+    private static final String FIELDS = "id,title,views,author.name,comments.id,comments.text,comments.author.name";
+
+    public enum Format {
+        JSON, CBOR, SMILE
+    }
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public Format format;
+
+    @Param({"10", "1000"})
+    public int comments;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(1 << 16);
+
+    private Post post;
+    private ObjectMapper objectMapper;
+    private RestQlSelection selection;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() {
+        post = BenchmarkFixtures.post(comments, 0);
+        objectMapper = switch (format) {
+            case JSON -> new ObjectMapper();
+            case CBOR -> new CBORMapper();
+            case SMILE -> new SmileMapper();
+        };
+        selection = new RestQlQuery().select(FIELDS);
+    }
+
+    @Benchmark
+    public int streamed(final Payload payload) throws IOException {
+        output.reset();
+        selection.writeTo(post, output, objectMapper);
+        payload.bytes += output.size();
+        return output.size();
+    }
+
+    @Benchmark
+    public int viaMap(final Payload payload) throws IOException {
+        output.reset();
+        objectMapper.writeValue(output, selection.from(post));
+        payload.bytes += output.size();
+        return output.size();
+    }
+}
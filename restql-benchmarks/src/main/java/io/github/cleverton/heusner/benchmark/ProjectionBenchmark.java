@@ -0,0 +1,91 @@
+package io.github.cleverton.heusner.benchmark;
+
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.projection.ProjectionEngine;
+import io.github.cleverton.heusner.projection.ProjectionMode;
+import io.github.cleverton.heusner.query.RestQlQuery;
+import io.github.cleverton.heusner.query.RestQlSelection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    private static final String FLAT_FIELDS = "id,title,text,datePublished,views,likes";
+    private static final String NESTED_FIELDS = "id,author.pet.name,comments.author.pet.nick_name," +
+            "comments.replies.replies.replies.text";
+    private static final String WIDE_COLLECTION_FIELDS = "comments.id,comments.text,comments.author.name";
+    private static final String OVERLAPPING_FIELDS = "author,author.pet.name,comments,comments.id," +
+            "comments.author.email";
+
+    @Param({"REFLECTIVE", "COMPILED"})
+    public ProjectionEngine engine;
+
+    @Param({"EAGER", "COMPACT"})
+    public ProjectionMode mode;
+
+    @Param({"10", "10000"})
+    public int comments;
+
+    private Post flatPost;
+    private Post nestedPost;
+    private Post widePost;
+
+    private RestQlSelection flatSelection;
+    private RestQlSelection nestedSelection;
+    private RestQlSelection wideCollectionSelection;
+    private RestQlSelection overlappingSelection;
+
+    @Setup
+    public void setUp() {
+        flatPost = BenchmarkFixtures.post(0, 0);
+        nestedPost = BenchmarkFixtures.post(10, 3);
+        widePost = BenchmarkFixtures.post(comments, 0);
+
+        final var query = RestQlQuery.builder()
+                .engine(engine)
+                .mode(mode)
+                .build();
+        flatSelection = query.select(FLAT_FIELDS);
+        nestedSelection = query.select(NESTED_FIELDS);
+        wideCollectionSelection = query.select(WIDE_COLLECTION_FIELDS);
+        overlappingSelection = query.select(OVERLAPPING_FIELDS);
+    }
+
+    @Benchmark
+    public Map<String, Object> flat() {
+        return flatSelection.from(flatPost);
+    }
+
+    @Benchmark
+    public Map<String, Object> nested() {
+        return nestedSelection.from(nestedPost);
+    }
+
+    @Benchmark
+    public Map<String, Object> wideCollection() {
+        return wideCollectionSelection.from(widePost);
+    }
+
+    @Benchmark
+    public Map<String, Object> overlappingPaths() {
+        return overlappingSelection.from(widePost);
+    }
+}
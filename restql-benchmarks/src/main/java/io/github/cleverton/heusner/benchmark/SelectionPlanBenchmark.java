@@ -0,0 +1,44 @@
+package io.github.cleverton.heusner.benchmark;
+
+import io.github.cleverton.heusner.plan.SelectionPlan;
+import io.github.cleverton.heusner.query.RestQlQuery;
+import io.github.cleverton.heusner.query.RestQlSelection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectionPlanBenchmark {
+
+    @Param({
+            "id,title,text",
+            "id,author.pet.name,comments.id,comments.author.nick_name,comments.replies.replies.text"
+    })
+    public String fields;
+
+    private final RestQlQuery query = new RestQlQuery();
+
+    @Benchmark
+    public SelectionPlan compile() {
+        return SelectionPlan.compile(fields);
+    }
+
+    @Benchmark
+    public RestQlSelection selectCached() {
+        return query.select(fields);
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.cleverton.heusner.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.*;
+
+@SupportedAnnotationTypes(RestQlProcessor.PROJECTION_ANNOTATION)
+public class RestQlProcessor extends AbstractProcessor {
+
+    static final String PROJECTION_ANNOTATION = "io.github.cleverton.heusner.annotation.RestQlProjection";
+    static final String ACCESSORS_SUFFIX = "_RestQlAccessors";
+
+    private static final String GENERATED_ACCESSORS = "io.github.cleverton.heusner.accessor.GeneratedAccessors";
+    private static final String SERVICE_FILE = "META-INF/services/" + GENERATED_ACCESSORS;
+    private static final List<String> SERIALIZATION_ANNOTATIONS = List.of(
+            "com.google.gson.annotations.SerializedName",
+            "com.fasterxml.jackson.annotation.JsonProperty"
+    );
+
+    private final Set<String> generatedAccessors = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final TypeElement projectionAnnotation = processingEnv.getElementUtils().getTypeElement(PROJECTION_ANNOTATION);
+
+        if (projectionAnnotation != null) {
+            ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(projectionAnnotation)).forEach(this::generateAccessors);
+        }
+
+        if (roundEnv.processingOver() && !generatedAccessors.isEmpty()) {
+            writeServiceFile();
+        }
+
+        return false;
+    }
+
+    private void generateAccessors(final TypeElement type) {
+        if (!isAccessible(type)) {
+            error(type, "Type '" + type.getQualifiedName() + "' must be a non-private top level or member class.");
+            return;
+        }
+
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String accessorsName = flatName(type) + ACCESSORS_SUFFIX;
+        final String qualifiedAccessorsName = packageName.isEmpty() ? accessorsName : packageName + "." + accessorsName;
+        final String entityType = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+
+        final List<String> fields = new ArrayList<>();
+        for (final VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+
+            readExpression(type, field).ifPresentOrElse(
+                    readExpression -> fields.add(String.format(
+                            "new GeneratedField(%s, %s, entity -> ((%s) entity).%s)",
+                            literal(field.getSimpleName().toString()),
+                            literal(serializedName(field)),
+                            entityType,
+                            readExpression
+                    )),
+                    () -> processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            "Field '" + field.getSimpleName() + "' is private and has no getter, so it will not be " +
+                                    "selectable.", field)
+            );
+        }
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedAccessorsName, type).openWriter()) {
+            writer.write(accessorsSource(packageName, accessorsName, entityType, fields));
+            generatedAccessors.add(qualifiedAccessorsName);
+        } catch (final IOException e) {
+            error(type, "Unable to generate RestQl accessors: " + e.getMessage());
+        }
+    }
+
+    private Optional<String> readExpression(final TypeElement type, final VariableElement field) {
+        final String fieldName = field.getSimpleName().toString();
+        final String capitalizedName = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+
+        return findGetter(type, field, "get" + capitalizedName)
+                .or(() -> field.asType().getKind() == TypeKind.BOOLEAN ?
+                        findGetter(type, field, "is" + capitalizedName) :
+                        Optional.empty())
+                .or(() -> type.getKind() == ElementKind.RECORD ? findGetter(type, field, fieldName) : Optional.empty())
+                .map(getter -> getter + "()")
+                .or(() -> field.getModifiers().contains(Modifier.PRIVATE) ? Optional.empty() : Optional.of(fieldName));
+    }
+
+    private Optional<String> findGetter(final TypeElement type, final VariableElement field, final String name) {
+        final PackageElement entityPackage = processingEnv.getElementUtils().getPackageOf(type);
+
+        return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+                .filter(method -> method.getSimpleName().contentEquals(name))
+                .filter(method -> method.getParameters().isEmpty())
+                .filter(method -> !method.getModifiers().contains(Modifier.STATIC))
+                .filter(method -> processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType()))
+                .filter(method -> method.getModifiers().contains(Modifier.PUBLIC) ||
+                        !method.getModifiers().contains(Modifier.PRIVATE) &&
+                                processingEnv.getElementUtils().getPackageOf(method).equals(entityPackage))
+                .findFirst()
+                .map(method -> method.getSimpleName().toString());
+    }
+
+    private String serializedName(final VariableElement field) {
+        for (final String annotationName : SERIALIZATION_ANNOTATIONS) {
+            for (final AnnotationMirror annotation : field.getAnnotationMirrors()) {
+                final var annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+
+                if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                    final Optional<String> value = annotation.getElementValues().entrySet().stream()
+                            .filter(entry -> entry.getKey().getSimpleName().contentEquals("value"))
+                            .map(entry -> entry.getValue().getValue().toString())
+                            .filter(v -> !v.isEmpty())
+                            .findFirst();
+
+                    if (value.isPresent()) {
+                        return value.get();
+                    }
+                }
+            }
+        }
+
+        return field.getSimpleName().toString();
+    }
+
+    private String accessorsSource(final String packageName,
+                                   final String accessorsName,
+                                   final String entityType,
+                                   final List<String> fields) {
+        final var source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("import ").append(GENERATED_ACCESSORS).append(";\n")
+                .append("import io.github.cleverton.heusner.accessor.GeneratedField;\n\n")
+                .append("import java.util.List;\n\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(accessorsName).append(" implements GeneratedAccessors {\n\n")
+                .append("    private static final List<GeneratedField> FIELDS = List.of(\n")
+                .append(String.join(",\n", fields.stream().map(field -> "            " + field).toList()))
+                .append("\n    );\n\n")
+                .append("    @Override\n")
+                .append("    public Class<?> getEntityType() {\n")
+                .append("        return ").append(entityType).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public List<GeneratedField> getFields() {\n")
+                .append("        return FIELDS;\n")
+                .append("    }\n")
+                .append("}\n");
+
+        return source.toString();
+    }
+
+    private void writeServiceFile() {
+        try (Writer writer = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE)
+                .openWriter()) {
+            for (final String accessors : generatedAccessors) {
+                writer.write(accessors);
+                writer.write("\n");
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isAccessible(final TypeElement type) {
+        Element element = type;
+
+        while (element instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE) ||
+                    typeElement.getNestingKind() != NestingKind.TOP_LEVEL &&
+                            typeElement.getNestingKind() != NestingKind.MEMBER) {
+                return false;
+            }
+
+            element = typeElement.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private String flatName(final TypeElement type) {
+        final Deque<String> names = new ArrayDeque<>();
+        Element element = type;
+
+        while (element instanceof TypeElement typeElement) {
+            names.addFirst(typeElement.getSimpleName().toString());
+            element = typeElement.getEnclosingElement();
+        }
+
+        return String.join("_", names);
+    }
+
+    private String literal(final String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private void error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.cleverton.heusner.processor;
+
+import io.github.cleverton.heusner.accessor.GeneratedAccessors;
+import io.github.cleverton.heusner.accessor.GeneratedField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RestQlProcessorTest {
+
+    private static final String BOOK_SOURCE = """
+            package fixture;
+
+            import com.fasterxml.jackson.annotation.JsonProperty;
+            import com.google.gson.annotations.SerializedName;
+            import io.github.cleverton.heusner.annotation.RestQlProjection;
+
+            @RestQlProjection
+            public class Book {
+
+                private static final long serialVersionUID = 1L;
+
+                private long id;
+
+                @JsonProperty("book_title")
+                private String title;
+
+                @SerializedName("page_count")
+                int pages;
+
+                private boolean available;
+
+                private String secret;
+
+                public long getId() {
+                    return id;
+                }
+
+                public String getTitle() {
+                    return title;
+                }
+
+                public boolean isAvailable() {
+                    return available;
+                }
+            }
+            """;
+
+    @TempDir
+    private Path outputDirectory;
+
+    @Test
+    void when_annotatedClassCompiled_then_accessorsGeneratedAndRegistered() throws Exception {
+
+        // Arrange
+        final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+
+        // Act
+        final boolean compiled = compile(BOOK_SOURCE, diagnostics);
+
+        // Assert
+        assertThat(compiled).as(diagnostics.getDiagnostics().toString()).isTrue();
+        assertThat(Files.readString(outputDirectory.resolve("META-INF/services/" + GeneratedAccessors.class.getName())))
+                .isEqualTo("fixture.Book" + RestQlProcessor.ACCESSORS_SUFFIX + "\n");
+        assertThat(diagnostics.getDiagnostics()).anySatisfy(diagnostic -> {
+            assertThat(diagnostic.getKind()).isEqualTo(Diagnostic.Kind.WARNING);
+            assertThat(diagnostic.getMessage(null)).contains("'secret'");
+        });
+
+        try (var classLoader = new URLClassLoader(new java.net.URL[]{outputDirectory.toUri().toURL()},
+                getClass().getClassLoader())) {
+            final var accessors = (GeneratedAccessors) classLoader
+                    .loadClass("fixture.Book" + RestQlProcessor.ACCESSORS_SUFFIX)
+                    .getConstructor()
+                    .newInstance();
+            final Map<String, String> serializedNames = accessors.getFields().stream()
+                    .collect(Collectors.toMap(GeneratedField::name, GeneratedField::serializedName));
+
+            assertThat(accessors.getEntityType().getName()).isEqualTo("fixture.Book");
+            assertThat(serializedNames).containsExactlyInAnyOrderEntriesOf(Map.of(
+                    "id", "id",
+                    "title", "book_title",
+                    "pages", "page_count",
+                    "available", "available"
+            ));
+        }
+    }
+
+    private boolean compile(final String source, final DiagnosticCollector<JavaFileObject> diagnostics)
+            throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(outputDirectory.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(outputDirectory.toFile()));
+
+            final var sourceFile = new SimpleJavaFileObject(
+                    java.net.URI.create("string:///fixture/Book.java"),
+                    JavaFileObject.Kind.SOURCE
+            ) {
+                @Override
+                public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+
+            final var task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    List.of("-classpath", System.getProperty("java.class.path")),
+                    null,
+                    List.of(sourceFile)
+            );
+            task.setProcessors(List.of(new RestQlProcessor()));
+
+            return task.call();
+        }
+    }
+}
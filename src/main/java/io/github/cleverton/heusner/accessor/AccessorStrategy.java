@@ -0,0 +1,22 @@
+package io.github.cleverton.heusner.accessor;
+
+import java.lang.reflect.Field;
+import java.util.function.Function;
+
+public enum AccessorStrategy {
+
+    REFLECTION(ReflectionFieldAccessor::new),
+    METHOD_HANDLE(MethodHandleFieldAccessor::new),
+    VAR_HANDLE(VarHandleFieldAccessor::new),
+    GENERATED(GetterAccessorGenerator::generate);
+
+    private final Function<Field, FieldAccessor> factory;
+
+    AccessorStrategy(final Function<Field, FieldAccessor> factory) {
+        this.factory = factory;
+    }
+
+    public FieldAccessor createAccessor(final Field field) {
+        return factory.apply(field);
+    }
+}
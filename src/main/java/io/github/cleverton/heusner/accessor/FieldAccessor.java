@@ -0,0 +1,26 @@
+package io.github.cleverton.heusner.accessor;
+
+public interface FieldAccessor {
+
+    Object get(Object target);
+
+    default boolean getBoolean(final Object target) {
+        return (Boolean) get(target);
+    }
+
+    default int getInt(final Object target) {
+        return ((Number) get(target)).intValue();
+    }
+
+    default long getLong(final Object target) {
+        return ((Number) get(target)).longValue();
+    }
+
+    default float getFloat(final Object target) {
+        return ((Number) get(target)).floatValue();
+    }
+
+    default double getDouble(final Object target) {
+        return ((Number) get(target)).doubleValue();
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.cleverton.heusner.accessor;
+
+import java.util.List;
+
+public interface GeneratedAccessors {
+
+    Class<?> getEntityType();
+
+    List<GeneratedField> getFields();
+}
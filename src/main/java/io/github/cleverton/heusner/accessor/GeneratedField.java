@@ -0,0 +1,4 @@
+package io.github.cleverton.heusner.accessor;
+
+public record GeneratedField(String name, String serializedName, FieldAccessor accessor) {
+}
@@ -0,0 +1,77 @@
+package io.github.cleverton.heusner.accessor;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+public class GetterAccessorGenerator {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType ACCESSOR_FACTORY_TYPE = MethodType.methodType(FieldAccessor.class);
+    private static final MethodType ACCESSOR_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final String ACCESSOR_METHOD_NAME = "get";
+
+    public static FieldAccessor generate(final Field field) {
+        return findGetter(field)
+                .flatMap(GetterAccessorGenerator::spinAccessor)
+                .orElseGet(() -> new MethodHandleFieldAccessor(field));
+    }
+
+    private static Optional<Method> findGetter(final Field field) {
+        final Class<?> type = field.getDeclaringClass();
+
+        if (Modifier.isStatic(field.getModifiers()) || !Modifier.isPublic(type.getModifiers()) || !isVisible(type)) {
+            return Optional.empty();
+        }
+
+        return findPublicMethod(type, "get" + capitalize(field.getName()))
+                .or(() -> field.getType() == boolean.class ?
+                        findPublicMethod(type, "is" + capitalize(field.getName())) :
+                        Optional.empty())
+                .filter(method -> method.getReturnType() == field.getType());
+    }
+
+    private static Optional<Method> findPublicMethod(final Class<?> type, final String name) {
+        try {
+            final Method method = type.getMethod(name);
+            return Modifier.isStatic(method.getModifiers()) ? Optional.empty() : Optional.of(method);
+        } catch (final NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<FieldAccessor> spinAccessor(final Method getter) {
+        try {
+            final MethodHandle getterHandle = LOOKUP.unreflect(getter);
+            final var accessorFactory = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    ACCESSOR_METHOD_NAME,
+                    ACCESSOR_FACTORY_TYPE,
+                    ACCESSOR_METHOD_TYPE,
+                    getterHandle,
+                    getterHandle.type().wrap()
+            );
+
+            return Optional.of((FieldAccessor) accessorFactory.getTarget().invokeExact());
+        } catch (final Throwable e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isVisible(final Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, GetterAccessorGenerator.class.getClassLoader()) == type;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static String capitalize(final String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
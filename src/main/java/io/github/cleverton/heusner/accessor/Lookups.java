@@ -0,0 +1,15 @@
+package io.github.cleverton.heusner.accessor;
+
+import java.lang.invoke.MethodHandles;
+
+final class Lookups {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private Lookups() {
+    }
+
+    static MethodHandles.Lookup privateLookupIn(final Class<?> type) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(type, LOOKUP);
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.cleverton.heusner.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+public class MethodHandleFieldAccessor implements FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<?> type;
+    private final MethodHandle getter;
+    private final MethodHandle primitiveGetter;
+
+    public MethodHandleFieldAccessor(final Field field) {
+        try {
+            final MethodHandle fieldGetter = Lookups.privateLookupIn(field.getDeclaringClass()).unreflectGetter(field);
+            final MethodHandle instanceGetter = Modifier.isStatic(field.getModifiers()) ?
+                    MethodHandles.dropArguments(fieldGetter, 0, Object.class) :
+                    fieldGetter;
+
+            this.type = primitiveType(field.getType());
+            this.getter = instanceGetter.asType(GETTER_TYPE);
+            this.primitiveGetter = type == null ?
+                    null :
+                    instanceGetter.asType(MethodType.methodType(type, Object.class));
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Object get(final Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(final Object target) {
+        if (type != boolean.class) {
+            return FieldAccessor.super.getBoolean(target);
+        }
+
+        try {
+            return (boolean) primitiveGetter.invokeExact(target);
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public int getInt(final Object target) {
+        if (type != int.class) {
+            return FieldAccessor.super.getInt(target);
+        }
+
+        try {
+            return (int) primitiveGetter.invokeExact(target);
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public long getLong(final Object target) {
+        if (type != long.class) {
+            return FieldAccessor.super.getLong(target);
+        }
+
+        try {
+            return (long) primitiveGetter.invokeExact(target);
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public float getFloat(final Object target) {
+        if (type != float.class) {
+            return FieldAccessor.super.getFloat(target);
+        }
+
+        try {
+            return (float) primitiveGetter.invokeExact(target);
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public double getDouble(final Object target) {
+        if (type != double.class) {
+            return FieldAccessor.super.getDouble(target);
+        }
+
+        try {
+            return (double) primitiveGetter.invokeExact(target);
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Class<?> primitiveType(final Class<?> fieldType) {
+        if (fieldType == byte.class || fieldType == short.class) {
+            return int.class;
+        }
+
+        return fieldType.isPrimitive() && fieldType != char.class ? fieldType : null;
+    }
+}
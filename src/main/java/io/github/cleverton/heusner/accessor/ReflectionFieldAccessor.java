@@ -0,0 +1,67 @@
+package io.github.cleverton.heusner.accessor;
+
+import java.lang.reflect.Field;
+
+public class ReflectionFieldAccessor implements FieldAccessor {
+
+    private final Field field;
+
+    public ReflectionFieldAccessor(final Field field) {
+        field.setAccessible(true);
+        this.field = field;
+    }
+
+    @Override
+    public Object get(final Object target) {
+        try {
+            return field.get(target);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(final Object target) {
+        try {
+            return field.getBoolean(target);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public int getInt(final Object target) {
+        try {
+            return field.getInt(target);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public long getLong(final Object target) {
+        try {
+            return field.getLong(target);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public float getFloat(final Object target) {
+        try {
+            return field.getFloat(target);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public double getDouble(final Object target) {
+        try {
+            return field.getDouble(target);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.cleverton.heusner.accessor;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+public class VarHandleFieldAccessor implements FieldAccessor {
+
+    private final VarHandle handle;
+    private final boolean staticField;
+
+    public VarHandleFieldAccessor(final Field field) {
+        try {
+            this.handle = Lookups.privateLookupIn(field.getDeclaringClass()).unreflectVarHandle(field);
+            this.staticField = Modifier.isStatic(field.getModifiers());
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Object get(final Object target) {
+        return staticField ? handle.get() : handle.get(target);
+    }
+
+    @Override
+    public boolean getBoolean(final Object target) {
+        return staticField ? (boolean) handle.get() : (boolean) handle.get(target);
+    }
+
+    @Override
+    public int getInt(final Object target) {
+        return staticField ? (int) handle.get() : (int) handle.get(target);
+    }
+
+    @Override
+    public long getLong(final Object target) {
+        return staticField ? (long) handle.get() : (long) handle.get(target);
+    }
+
+    @Override
+    public float getFloat(final Object target) {
+        return staticField ? (float) handle.get() : (float) handle.get(target);
+    }
+
+    @Override
+    public double getDouble(final Object target) {
+        return staticField ? (double) handle.get() : (double) handle.get(target);
+    }
+}
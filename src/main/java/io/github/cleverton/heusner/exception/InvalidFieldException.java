@@ -0,0 +1,8 @@
+package io.github.cleverton.heusner.exception;
+
+public class InvalidFieldException extends RuntimeException {
+
+    public InvalidFieldException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.cleverton.heusner.exception;
+
+public class QueryLimitExceededException extends RuntimeException {
+
+    public QueryLimitExceededException(final String message) {
+        super(message);
+    }
+}
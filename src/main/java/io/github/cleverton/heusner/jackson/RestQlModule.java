@@ -0,0 +1,36 @@
+package io.github.cleverton.heusner.jackson;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.cleverton.heusner.plan.SelectionPlan;
+
+public final class RestQlModule extends Module {
+
+    static final Object SELECTION_ATTRIBUTE = new Object();
+    static final Object SELECT_ALL = new Object();
+
+    @Override
+    public String getModuleName() {
+        return "RestQlModule";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(final SetupContext context) {
+        context.addBeanSerializerModifier(new SelectionSerializerModifier());
+    }
+
+    public static ObjectWriter writer(final ObjectMapper objectMapper, final SelectionPlan plan) {
+        if (!objectMapper.getRegisteredModuleIds().contains(RestQlModule.class.getName())) {
+            throw new IllegalStateException("The RestQlModule must be registered in the ObjectMapper.");
+        }
+
+        return objectMapper.writer().withAttribute(SELECTION_ATTRIBUTE, plan.getRoot());
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.cleverton.heusner.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import io.github.cleverton.heusner.exception.FieldNotFoundException;
+import io.github.cleverton.heusner.plan.SelectionNode;
+
+import java.util.Collection;
+import java.util.Set;
+
+final class SelectedPropertyWriter extends BeanPropertyWriter {
+
+    private final String internalName;
+    private final Set<String> selectableNames;
+
+    SelectedPropertyWriter(final BeanPropertyWriter base,
+                           final String internalName,
+                           final Set<String> selectableNames) {
+        super(base);
+        this.internalName = internalName;
+        this.selectableNames = selectableNames;
+    }
+
+    private SelectedPropertyWriter(final SelectedPropertyWriter base, final PropertyName name) {
+        super(base, name);
+        this.internalName = base.internalName;
+        this.selectableNames = base.selectableNames;
+    }
+
+    @Override
+    protected BeanPropertyWriter _new(final PropertyName newName) {
+        return new SelectedPropertyWriter(this, newName);
+    }
+
+    @Override
+    public void serializeAsField(final Object bean, final JsonGenerator gen, final SerializerProvider prov)
+            throws Exception {
+        final Object selection = prov.getAttribute(RestQlModule.SELECTION_ATTRIBUTE);
+        if (!(selection instanceof SelectionNode node)) {
+            super.serializeAsField(bean, gen, prov);
+            return;
+        }
+
+        if (selectableNames != null) {
+            requireSelectableFields(node);
+        }
+
+        SelectionNode child = node.getChild(getName());
+        if (child == null) {
+            child = node.getChild(internalName);
+        }
+
+        if (child == null) {
+            return;
+        }
+
+        prov.setAttribute(RestQlModule.SELECTION_ATTRIBUTE, child.isLeaf() ? RestQlModule.SELECT_ALL : child);
+        try {
+            if (child.getSlice() != null && get(bean) instanceof Collection<?> collection) {
+                writeSlice(child.getSlice().select(collection), gen, prov);
+            }
+            else {
+                super.serializeAsField(bean, gen, prov);
+            }
+        } finally {
+            prov.setAttribute(RestQlModule.SELECTION_ATTRIBUTE, node);
+        }
+    }
+
+    private void requireSelectableFields(final SelectionNode node) {
+        for (final SelectionNode child : node.getChildren()) {
+            if (!selectableNames.contains(child.getName())) {
+                throw new FieldNotFoundException("Field '" + child.getName() + "' not found.");
+            }
+        }
+    }
+
+    private void writeSlice(final Object slice, final JsonGenerator gen, final SerializerProvider prov)
+            throws Exception {
+        final JsonSerializer<Object> serializer = _serializer != null ?
+                _serializer :
+                prov.findValueSerializer(slice.getClass(), this);
+
+        gen.writeFieldName(_name);
+        if (_typeSerializer == null) {
+            serializer.serialize(slice, gen, prov);
+        }
+        else {
+            serializer.serializeWithType(slice, gen, prov, _typeSerializer);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.cleverton.heusner.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class SelectionSerializerModifier extends BeanSerializerModifier {
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(final SerializationConfig config,
+                                                     final BeanDescription beanDesc,
+                                                     final List<BeanPropertyWriter> beanProperties) {
+        final Map<String, String> internalNames = new HashMap<>();
+        for (final BeanPropertyDefinition property : beanDesc.findProperties()) {
+            internalNames.put(property.getName(), property.getInternalName());
+        }
+
+        final Set<String> selectableNames = new HashSet<>();
+        for (final BeanPropertyWriter property : beanProperties) {
+            selectableNames.add(property.getName());
+            selectableNames.add(internalNames.getOrDefault(property.getName(), property.getName()));
+        }
+
+        final List<BeanPropertyWriter> selectedProperties = new ArrayList<>(beanProperties.size());
+        for (final BeanPropertyWriter property : beanProperties) {
+            selectedProperties.add(new SelectedPropertyWriter(
+                    property,
+                    internalNames.getOrDefault(property.getName(), property.getName()),
+                    selectedProperties.isEmpty() ? Set.copyOf(selectableNames) : null
+            ));
+        }
+
+        return selectedProperties;
+    }
+}
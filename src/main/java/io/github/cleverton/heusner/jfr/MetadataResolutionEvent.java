@@ -0,0 +1,39 @@
+package io.github.cleverton.heusner.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.github.cleverton.heusner.MetadataResolution")
+@Label("Metadata Resolution")
+@Description("Resolution of the selectable fields of an entity class")
+@Category("RestQl")
+@Enabled(false)
+@StackTrace(false)
+public final class MetadataResolutionEvent extends Event {
+
+    @Label("Entity Class")
+    private Class<?> entityClass;
+
+    @Label("Fields")
+    private int fieldCount;
+
+    @Label("Generated Accessors")
+    private boolean generated;
+
+    public void setEntityClass(final Class<?> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    public void setFieldCount(final int fieldCount) {
+        this.fieldCount = fieldCount;
+    }
+
+    public void setGenerated(final boolean generated) {
+        this.generated = generated;
+    }
+}
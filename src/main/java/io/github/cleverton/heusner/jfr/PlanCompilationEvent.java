@@ -0,0 +1,32 @@
+package io.github.cleverton.heusner.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.github.cleverton.heusner.PlanCompilation")
+@Label("Plan Compilation")
+@Description("Compilation of selected fields into a selection plan")
+@Category("RestQl")
+@Enabled(false)
+@StackTrace(false)
+public final class PlanCompilationEvent extends Event {
+
+    @Label("Fields")
+    private String fields;
+
+    @Label("Paths")
+    private int paths;
+
+    public void setFields(final String fields) {
+        this.fields = fields;
+    }
+
+    public void setPaths(final int paths) {
+        this.paths = paths;
+    }
+}
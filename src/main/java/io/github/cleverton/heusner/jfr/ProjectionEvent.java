@@ -0,0 +1,46 @@
+package io.github.cleverton.heusner.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.github.cleverton.heusner.Projection")
+@Label("Projection")
+@Description("Projection of the selected fields of an entity")
+@Category("RestQl")
+@Enabled(false)
+@StackTrace(false)
+public final class ProjectionEvent extends Event {
+
+    @Label("Entity Class")
+    private Class<?> entityClass;
+
+    @Label("Fields")
+    private String fields;
+
+    @Label("Objects Visited")
+    private long objectCount;
+
+    @Label("Elements Visited")
+    private long elementCount;
+
+    public void setEntityClass(final Class<?> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    public void setFields(final String fields) {
+        this.fields = fields;
+    }
+
+    public void setObjectCount(final long objectCount) {
+        this.objectCount = objectCount;
+    }
+
+    public void setElementCount(final long elementCount) {
+        this.elementCount = elementCount;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.cleverton.heusner.metadata;
+
+import io.github.cleverton.heusner.accessor.GeneratedAccessors;
+import io.github.cleverton.heusner.exception.FieldNotFoundException;
+import io.github.cleverton.heusner.jfr.MetadataResolutionEvent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class ClassMetadata {
+
+    private static final ThreadLocal<boolean[]> COMPUTED = ThreadLocal.withInitial(() -> new boolean[1]);
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<>() {
+
+        @Override
+        protected ClassMetadata computeValue(final Class<?> type) {
+            final var event = new MetadataResolutionEvent();
+            event.begin();
+
+            final var classMetadata = new ClassMetadata(type);
+
+            if (event.shouldCommit()) {
+                event.setEntityClass(type);
+                event.setFieldCount(classMetadata.fieldsByName.size());
+                event.setGenerated(GeneratedAccessorsRegistry.find(type) != null);
+                event.commit();
+            }
+
+            COMPUTED.get()[0] = true;
+            return classMetadata;
+        }
+    };
+
+    private final Class<?> type;
+    private final Map<String, FieldMetadata> fieldsByName;
+
+    private ClassMetadata(final Class<?> type) {
+        this.type = type;
+        this.fieldsByName = indexFields(type);
+    }
+
+    public static ClassMetadata of(final Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    public static ClassMetadata of(final Class<?> type, final MetadataCacheListener listener) {
+        final boolean[] computed = COMPUTED.get();
+        computed[0] = false;
+
+        final ClassMetadata classMetadata = METADATA.get(type);
+        listener.metadataResolved(!computed[0]);
+        return classMetadata;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public FieldMetadata findField(final String name) {
+        return fieldsByName.get(name);
+    }
+
+    public FieldMetadata getField(final String name) {
+        final FieldMetadata fieldMetadata = fieldsByName.get(name);
+
+        if (fieldMetadata == null) {
+            throw new FieldNotFoundException("Field '" + name + "' not found.");
+        }
+
+        return fieldMetadata;
+    }
+
+    private static Map<String, FieldMetadata> indexFields(final Class<?> type) {
+        final GeneratedAccessors generatedAccessors = GeneratedAccessorsRegistry.find(type);
+
+        return generatedAccessors != null ?
+                indexFields(generatedAccessors.getFields().stream()
+                        .map(generatedField -> new FieldMetadata(type, generatedField))
+                        .toList()) :
+                indexFields(Arrays.stream(type.getDeclaredFields())
+                        .map(FieldMetadata::new)
+                        .toList());
+    }
+
+    private static Map<String, FieldMetadata> indexFields(final List<FieldMetadata> fields) {
+        final Map<String, FieldMetadata> rawNames = new HashMap<>();
+        final Map<String, FieldMetadata> serializedNames = new HashMap<>();
+
+        for (final FieldMetadata fieldMetadata : fields) {
+            rawNames.put(fieldMetadata.getName(), fieldMetadata);
+
+            if (!fieldMetadata.getSerializedName().equals(fieldMetadata.getName())) {
+                serializedNames.putIfAbsent(fieldMetadata.getSerializedName(), fieldMetadata);
+            }
+        }
+
+        final Map<String, FieldMetadata> fieldsByName = new HashMap<>(rawNames);
+        fieldsByName.putAll(serializedNames);
+        return Map.copyOf(fieldsByName);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.cleverton.heusner.metadata;
+
+import io.github.cleverton.heusner.accessor.AccessorStrategy;
+import io.github.cleverton.heusner.accessor.FieldAccessor;
+import io.github.cleverton.heusner.accessor.GeneratedField;
+import io.github.cleverton.heusner.serialization.SerializationAnnotation;
+import io.github.cleverton.heusner.serialization.SerializationAnnotationSelector;
+
+import java.lang.reflect.Field;
+import java.util.function.Predicate;
+
+public final class FieldMetadata {
+
+    private final Class<?> declaringClass;
+    private final String name;
+    private final String serializedName;
+    private final Class<?> type;
+    private final Field field;
+    private final FieldAccessor generatedAccessor;
+    private final FieldAccessor[] accessors = new FieldAccessor[AccessorStrategy.values().length];
+
+    FieldMetadata(final Field field) {
+        this.declaringClass = field.getDeclaringClass();
+        this.name = field.getName();
+        this.serializedName = SerializationAnnotationSelector.select(field)
+                .map(SerializationAnnotation::getValue)
+                .filter(Predicate.not(String::isEmpty))
+                .orElse(field.getName());
+        this.type = field.getType();
+        this.field = field;
+        this.generatedAccessor = null;
+    }
+
+    FieldMetadata(final Class<?> declaringClass, final GeneratedField generatedField) {
+        this.declaringClass = declaringClass;
+        this.name = generatedField.name();
+        this.serializedName = generatedField.serializedName();
+        this.type = Object.class;
+        this.field = null;
+        this.generatedAccessor = generatedField.accessor();
+    }
+
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSerializedName() {
+        return serializedName;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public boolean isGenerated() {
+        return generatedAccessor != null;
+    }
+
+    public FieldAccessor getAccessor(final AccessorStrategy strategy) {
+        if (generatedAccessor != null) {
+            return generatedAccessor;
+        }
+
+        FieldAccessor accessor = accessors[strategy.ordinal()];
+
+        if (accessor == null) {
+            accessor = strategy.createAccessor(field);
+            accessors[strategy.ordinal()] = accessor;
+        }
+
+        return accessor;
+    }
+}
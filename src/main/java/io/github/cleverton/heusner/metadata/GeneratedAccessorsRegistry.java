@@ -0,0 +1,28 @@
+package io.github.cleverton.heusner.metadata;
+
+import io.github.cleverton.heusner.accessor.GeneratedAccessors;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+final class GeneratedAccessorsRegistry {
+
+    private static final Map<Class<?>, GeneratedAccessors> ACCESSORS = loadAccessors();
+
+    private GeneratedAccessorsRegistry() {
+    }
+
+    static GeneratedAccessors find(final Class<?> type) {
+        return ACCESSORS.get(type);
+    }
+
+    private static Map<Class<?>, GeneratedAccessors> loadAccessors() {
+        final Map<Class<?>, GeneratedAccessors> accessors = new HashMap<>();
+        ServiceLoader.load(GeneratedAccessors.class).forEach(generatedAccessors ->
+                accessors.putIfAbsent(generatedAccessors.getEntityType(), generatedAccessors)
+        );
+
+        return Map.copyOf(accessors);
+    }
+}
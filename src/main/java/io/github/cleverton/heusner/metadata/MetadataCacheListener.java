@@ -0,0 +1,7 @@
+package io.github.cleverton.heusner.metadata;
+
+@FunctionalInterface
+public interface MetadataCacheListener {
+
+    void metadataResolved(boolean cacheHit);
+}
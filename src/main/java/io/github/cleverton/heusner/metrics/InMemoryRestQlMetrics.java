@@ -0,0 +1,94 @@
+package io.github.cleverton.heusner.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class InMemoryRestQlMetrics implements RestQlMetrics {
+
+    private final Histogram planNanos = new Histogram();
+    private final Histogram projectionNanos = new Histogram();
+    private final Histogram objectsVisited = new Histogram();
+    private final Histogram elementsVisited = new Histogram();
+    private final Histogram outputFields = new Histogram();
+    private final LongAdder planCacheHits = new LongAdder();
+    private final LongAdder planCacheMisses = new LongAdder();
+    private final LongAdder bindingCacheHits = new LongAdder();
+    private final LongAdder bindingCacheMisses = new LongAdder();
+    private final LongAdder metadataCacheHits = new LongAdder();
+    private final LongAdder metadataCacheMisses = new LongAdder();
+
+    @Override
+    public void planResolved(final long nanos, final boolean cacheHit) {
+        planNanos.record(nanos);
+        (cacheHit ? planCacheHits : planCacheMisses).increment();
+    }
+
+    @Override
+    public void projected(final ProjectionStats stats) {
+        projectionNanos.record(stats.nanos());
+        objectsVisited.record(stats.objectsVisited());
+        elementsVisited.record(stats.elementsVisited());
+        outputFields.record(stats.outputFields());
+        bindingCacheHits.add(stats.bindingCacheHits());
+        bindingCacheMisses.add(stats.bindingCacheMisses());
+        metadataCacheHits.add(stats.metadataCacheHits());
+        metadataCacheMisses.add(stats.metadataCacheMisses());
+    }
+
+    public Histogram getPlanNanos() {
+        return planNanos;
+    }
+
+    public Histogram getProjectionNanos() {
+        return projectionNanos;
+    }
+
+    public Histogram getObjectsVisited() {
+        return objectsVisited;
+    }
+
+    public Histogram getElementsVisited() {
+        return elementsVisited;
+    }
+
+    public Histogram getOutputFields() {
+        return outputFields;
+    }
+
+    public long getPlanCacheHits() {
+        return planCacheHits.sum();
+    }
+
+    public long getPlanCacheMisses() {
+        return planCacheMisses.sum();
+    }
+
+    public long getBindingCacheHits() {
+        return bindingCacheHits.sum();
+    }
+
+    public long getBindingCacheMisses() {
+        return bindingCacheMisses.sum();
+    }
+
+    public long getMetadataCacheHits() {
+        return metadataCacheHits.sum();
+    }
+
+    public long getMetadataCacheMisses() {
+        return metadataCacheMisses.sum();
+    }
+
+    public void reset() {
+        planNanos.reset();
+        projectionNanos.reset();
+        objectsVisited.reset();
+        elementsVisited.reset();
+        outputFields.reset();
+        planCacheHits.reset();
+        planCacheMisses.reset();
+        bindingCacheHits.reset();
+        bindingCacheMisses.reset();
+        metadataCacheHits.reset();
+        metadataCacheMisses.reset();
+    }
+}
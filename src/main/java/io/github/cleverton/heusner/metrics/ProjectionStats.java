@@ -0,0 +1,11 @@
+package io.github.cleverton.heusner.metrics;
+
+public record ProjectionStats(long nanos,
+                              long objectsVisited,
+                              long elementsVisited,
+                              long outputFields,
+                              long bindingCacheHits,
+                              long bindingCacheMisses,
+                              long metadataCacheHits,
+                              long metadataCacheMisses) {
+}
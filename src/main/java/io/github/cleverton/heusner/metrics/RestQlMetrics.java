@@ -0,0 +1,13 @@
+package io.github.cleverton.heusner.metrics;
+
+public interface RestQlMetrics {
+
+    RestQlMetrics NOOP = new RestQlMetrics() {
+    };
+
+    default void planResolved(final long nanos, final boolean cacheHit) {
+    }
+
+    default void projected(final ProjectionStats stats) {
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.cleverton.heusner.plan;
+
+import io.github.cleverton.heusner.accessor.AccessorStrategy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public final class SelectionNode {
+
+    private final String name;
+    private final Slice slice;
+    private final Map<String, SelectionNode> children;
+    private final List<Map<Class<?>, Object>> bindings = Stream.<Map<Class<?>, Object>>generate(ConcurrentHashMap::new)
+            .limit(AccessorStrategy.values().length)
+            .toList();
+    private volatile String[] outputNames;
+
+    SelectionNode(final String name, final Slice slice, final Map<String, SelectionNode> children) {
+        this.name = name;
+        this.slice = slice;
+        this.children = children.isEmpty() ?
+                Collections.emptyMap() :
+                Collections.unmodifiableMap(new LinkedHashMap<>(children));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Slice getSlice() {
+        return slice;
+    }
+
+    public boolean isLeaf() {
+        return children.isEmpty();
+    }
+
+    public SelectionNode getChild(final String name) {
+        return children.get(name);
+    }
+
+    public Collection<SelectionNode> getChildren() {
+        return children.values();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <B> B findBinding(final Class<?> type, final AccessorStrategy strategy) {
+        return (B) bindings.get(strategy.ordinal()).get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <B> B getBinding(final Class<?> type,
+                            final AccessorStrategy strategy,
+                            final Function<Class<?>, B> binder) {
+        final Map<Class<?>, Object> strategyBindings = bindings.get(strategy.ordinal());
+        final Object binding = strategyBindings.get(type);
+        return binding != null ? (B) binding : (B) strategyBindings.computeIfAbsent(type, binder);
+    }
+
+    public void clearBindings() {
+        for (final Map<Class<?>, Object> strategyBindings : bindings) {
+            strategyBindings.clear();
+        }
+
+        children.values().forEach(SelectionNode::clearBindings);
+    }
+
+    public String[] shareOutputNames(final String[] names) {
+        final String[] sharedNames = outputNames;
+
+        if (sharedNames == null) {
+            outputNames = names;
+            return names;
+        }
+
+        return Arrays.equals(sharedNames, names) ? sharedNames : names;
+    }
+}
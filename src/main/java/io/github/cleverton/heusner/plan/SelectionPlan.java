@@ -0,0 +1,227 @@
+package io.github.cleverton.heusner.plan;
+
+import io.github.cleverton.heusner.exception.InvalidFieldException;
+import io.github.cleverton.heusner.exception.NoFieldsInformedException;
+import io.github.cleverton.heusner.exception.QueryLimitExceededException;
+import io.github.cleverton.heusner.jfr.PlanCompilationEvent;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class SelectionPlan {
+
+    private static final String COMMA = ",";
+    private static final String DOT = "\\.";
+    private static final String ROOT = "";
+    private static final Pattern SLICED_FIELD = Pattern.compile("([^\\[\\]]+)(?:\\[([^\\]]*)])?");
+
+    private final SelectionNode root;
+    private final List<List<String>> paths;
+    private final int depth;
+
+    private SelectionPlan(final SelectionNode root) {
+        this.root = root;
+        this.paths = Collections.unmodifiableList(collectPaths(root, new ArrayList<>(), new ArrayList<>()));
+        this.depth = paths.stream().mapToInt(List::size).max().orElse(0);
+    }
+
+    public static SelectionPlan compile(final String...fields) {
+        return compileFields(removeBlankFields(Arrays.stream(fields)));
+    }
+
+    public static SelectionPlan compile(final List<String> fields) {
+        return compileFields(removeBlankFields(fields.stream()));
+    }
+
+    public static SelectionPlan compile(final String fieldsSeparatedByComma) {
+        return compileFields(removeBlankFields(splitByComma(fieldsSeparatedByComma).stream()));
+    }
+
+    public SelectionNode getRoot() {
+        return root;
+    }
+
+    public List<List<String>> getPaths() {
+        return paths;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public String toString() {
+        return paths.stream()
+                .map(path -> String.join(".", path))
+                .collect(Collectors.joining(COMMA));
+    }
+
+    static SelectionPlan compileFields(final List<String> fields) {
+        validateFields(fields);
+
+        final var event = new PlanCompilationEvent();
+        event.begin();
+
+        final var root = new NodeBuilder(ROOT, null);
+        fields.forEach(field -> root.add(field, field.split(DOT), 0));
+        final var plan = new SelectionPlan(root.build());
+
+        if (event.shouldCommit()) {
+            event.setFields(String.join(COMMA, fields));
+            event.setPaths(plan.paths.size());
+            event.commit();
+        }
+
+        return plan;
+    }
+
+    static List<String> removeBlankFields(final Stream<String> fields) {
+        return fields.filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(Predicate.not(String::isEmpty))
+                .toList();
+    }
+
+    static List<String> splitByComma(final String fieldsSeparatedByComma) {
+        return Arrays.asList(fieldsSeparatedByComma.split(COMMA));
+    }
+
+    static void validateFields(final List<String> fields) {
+        if (fields.isEmpty()) {
+            throw new NoFieldsInformedException("You must inform at least one field.");
+        }
+    }
+
+    static void checkLimits(final List<String> fields, final int maxDepth, final int maxPaths) {
+        final Set<String> selectedFields = new LinkedHashSet<>();
+        boolean withinDepth = true;
+
+        for (final String field : fields) {
+            final String[] subfields = field.split(DOT);
+            withinDepth &= subfields.length <= maxDepth;
+            selectedFields.add(Arrays.stream(subfields).map(String::trim).collect(Collectors.joining(".")));
+        }
+
+        if (withinDepth && selectedFields.size() <= maxPaths) {
+            return;
+        }
+
+        int paths = 0;
+        for (final String field : selectedFields) {
+            final String[] subfields = field.split(DOT);
+
+            if (hasSelectedPrefix(subfields, selectedFields, Math.min(subfields.length - 1, maxDepth))) {
+                continue;
+            }
+
+            if (subfields.length > maxDepth) {
+                throw new QueryLimitExceededException("The selection exceeded the maximum depth of " + maxDepth + ".");
+            }
+
+            paths++;
+        }
+
+        if (paths > maxPaths) {
+            throw new QueryLimitExceededException("The selection exceeded the maximum of " + maxPaths + " paths.");
+        }
+    }
+
+    private static boolean hasSelectedPrefix(final String[] subfields,
+                                             final Set<String> selectedFields,
+                                             final int maxLength) {
+        final var prefix = new StringBuilder();
+
+        for (int i = 0; i < maxLength; i++) {
+            if (i > 0) {
+                prefix.append('.');
+            }
+
+            if (selectedFields.contains(prefix.append(subfields[i]).toString())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static List<List<String>> collectPaths(final SelectionNode node,
+                                                   final List<String> currentPath,
+                                                   final List<List<String>> paths) {
+        for (final SelectionNode child : node.getChildren()) {
+            currentPath.add(child.getSlice() == null ? child.getName() : child.getName() + child.getSlice());
+
+            if (child.isLeaf()) {
+                paths.add(List.copyOf(currentPath));
+            }
+            else {
+                collectPaths(child, currentPath, paths);
+            }
+
+            currentPath.removeLast();
+        }
+
+        return paths;
+    }
+
+    private static final class NodeBuilder {
+
+        private final String name;
+        private Slice slice;
+        private final Map<String, NodeBuilder> children = new LinkedHashMap<>();
+        private boolean selectedAsWhole;
+
+        private NodeBuilder(final String name, final Slice slice) {
+            this.name = name;
+            this.slice = slice;
+        }
+
+        private void add(final String field, final String[] subfields, final int index) {
+            if (selectedAsWhole) {
+                return;
+            }
+
+            if (index == subfields.length) {
+                selectedAsWhole = true;
+                children.clear();
+                return;
+            }
+
+            final Matcher matcher = SLICED_FIELD.matcher(subfields[index]);
+            if (!matcher.matches()) {
+                throw new InvalidFieldException("Field '" + field + "' is invalid.");
+            }
+
+            final String childName = matcher.group(1).trim();
+            final Slice childSlice = parseSlice(field, matcher.group(2));
+            final NodeBuilder child = children.computeIfAbsent(childName, n -> new NodeBuilder(n, childSlice));
+
+            if (child.slice != null && childSlice != null && !child.slice.equals(childSlice)) {
+                throw new InvalidFieldException("Field '" + childName + "' is selected with different slices.");
+            }
+
+            if (childSlice == null) {
+                child.slice = null;
+            }
+
+            child.add(field, subfields, index + 1);
+        }
+
+        private static Slice parseSlice(final String field, final String slice) {
+            try {
+                return slice == null ? null : Slice.parse(slice);
+            } catch (final NumberFormatException e) {
+                throw new InvalidFieldException("Field '" + field + "' is invalid.");
+            }
+        }
+
+        private SelectionNode build() {
+            final Map<String, SelectionNode> builtChildren = new LinkedHashMap<>();
+            children.forEach((childName, child) -> builtChildren.put(childName, child.build()));
+            return new SelectionNode(name, slice, builtChildren);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.cleverton.heusner.plan;
+
+import io.github.cleverton.heusner.metrics.RestQlMetrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class SelectionPlanCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private static final String COMMA = ",";
+
+    private final int maximumSize;
+    private final Map<String, CachedPlan> plans = new ConcurrentHashMap<>();
+    private final Queue<CachedPlan> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public SelectionPlanCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public SelectionPlanCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size of the plan cache must be positive.");
+        }
+
+        this.maximumSize = maximumSize;
+    }
+
+    public SelectionPlan get(final String...fields) {
+        return get(Arrays.stream(fields), RestQlMetrics.NOOP, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    public SelectionPlan get(final List<String> fields) {
+        return get(fields, RestQlMetrics.NOOP);
+    }
+
+    public SelectionPlan get(final String fieldsSeparatedByComma) {
+        return get(fieldsSeparatedByComma, RestQlMetrics.NOOP);
+    }
+
+    public SelectionPlan get(final List<String> fields, final RestQlMetrics metrics) {
+        return get(fields, metrics, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    public SelectionPlan get(final String fieldsSeparatedByComma, final RestQlMetrics metrics) {
+        return get(fieldsSeparatedByComma, metrics, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    public SelectionPlan get(final List<String> fields,
+                             final RestQlMetrics metrics,
+                             final int maxDepth,
+                             final int maxPaths) {
+        return get(fields.stream(), metrics, maxDepth, maxPaths);
+    }
+
+    public SelectionPlan get(final String fieldsSeparatedByComma,
+                             final RestQlMetrics metrics,
+                             final int maxDepth,
+                             final int maxPaths) {
+        return get(SelectionPlan.splitByComma(fieldsSeparatedByComma).stream(), metrics, maxDepth, maxPaths);
+    }
+
+    public SelectionPlanCacheStats stats() {
+        return new SelectionPlanCacheStats(
+                hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                plans.size(),
+                maximumSize
+        );
+    }
+
+    public void clear() {
+        plans.values().forEach(cachedPlan -> cachedPlan.plan.getRoot().clearBindings());
+        plans.clear();
+        evictionQueue.clear();
+    }
+
+    private SelectionPlan get(final Stream<String> fields,
+                              final RestQlMetrics metrics,
+                              final int maxDepth,
+                              final int maxPaths) {
+        final long start = System.nanoTime();
+        final List<String> canonicalFields = canonicalize(fields);
+        SelectionPlan.validateFields(canonicalFields);
+        SelectionPlan.checkLimits(canonicalFields, maxDepth, maxPaths);
+
+        final String key = String.join(COMMA, canonicalFields);
+        final SelectionPlan cachedPlan = lookup(key);
+        if (cachedPlan != null) {
+            metrics.planResolved(System.nanoTime() - start, true);
+            return cachedPlan;
+        }
+
+        final SelectionPlan plan = store(key, SelectionPlan.compileFields(canonicalFields));
+        metrics.planResolved(System.nanoTime() - start, false);
+        return plan;
+    }
+
+    private SelectionPlan lookup(final String key) {
+        final CachedPlan cachedPlan = plans.get(key);
+
+        if (cachedPlan == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        if (!cachedPlan.referenced) {
+            cachedPlan.referenced = true;
+        }
+
+        return cachedPlan.plan;
+    }
+
+    private SelectionPlan store(final String key, final SelectionPlan plan) {
+        final var newPlan = new CachedPlan(key, plan);
+        final CachedPlan cachedPlan = plans.putIfAbsent(key, newPlan);
+        if (cachedPlan != null) {
+            return cachedPlan.plan;
+        }
+
+        evictionQueue.offer(newPlan);
+        if (plans.size() > maximumSize) {
+            evict();
+        }
+
+        return plan;
+    }
+
+    private void evict() {
+        while (plans.size() > maximumSize) {
+            final CachedPlan candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                evictionQueue.offer(candidate);
+            }
+            else if (plans.remove(candidate.key, candidate)) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private List<String> canonicalize(final Stream<String> fields) {
+        return SelectionPlan.removeBlankFields(fields).stream()
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static final class CachedPlan {
+
+        private final String key;
+        private final SelectionPlan plan;
+        private volatile boolean referenced;
+
+        private CachedPlan(final String key, final SelectionPlan plan) {
+            this.key = key;
+            this.plan = plan;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.cleverton.heusner.plan;
+
+public record SelectionPlanCacheStats(long hitCount,
+                                      long missCount,
+                                      long evictionCount,
+                                      int size,
+                                      int maximumSize) {
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    public double hitRatio() {
+        final long requestCount = requestCount();
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+}
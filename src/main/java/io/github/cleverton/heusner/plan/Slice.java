@@ -0,0 +1,71 @@
+package io.github.cleverton.heusner.plan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+public record Slice(Integer start, Integer end) {
+
+    private static final String COLON = ":";
+
+    static Slice parse(final String slice) {
+        if (!slice.contains(COLON)) {
+            final int index = Integer.parseInt(slice.trim());
+            return new Slice(index, index == -1 ? null : index + 1);
+        }
+
+        final String[] bounds = slice.split(COLON, -1);
+        if (bounds.length != 2) {
+            throw new NumberFormatException(slice);
+        }
+
+        return new Slice(parseBound(bounds[0]), parseBound(bounds[1]));
+    }
+
+    public int fromIndex(final int size) {
+        return resolve(start == null ? 0 : start, size);
+    }
+
+    public int toIndex(final int size) {
+        return Math.max(fromIndex(size), resolve(end == null ? size : end, size));
+    }
+
+    public List<?> select(final Collection<?> collection) {
+        final int size = collection.size();
+        final int fromIndex = fromIndex(size);
+        final int toIndex = toIndex(size);
+
+        if (collection instanceof List<?> list && collection instanceof RandomAccess) {
+            return new ArrayList<>(list.subList(fromIndex, toIndex));
+        }
+
+        final List<Object> selectedItems = new ArrayList<>(toIndex - fromIndex);
+        final Iterator<?> items = collection.iterator();
+
+        for (int i = 0; i < toIndex; i++) {
+            final Object item = items.next();
+
+            if (i >= fromIndex) {
+                selectedItems.add(item);
+            }
+        }
+
+        return selectedItems;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + (start == null ? "" : start) + COLON + (end == null ? "" : end) + "]";
+    }
+
+    private static Integer parseBound(final String bound) {
+        return bound.isBlank() ? null : Integer.valueOf(bound.trim());
+    }
+
+    private static int resolve(final int index, final int size) {
+        final int resolvedIndex = index < 0 ? size + index : index;
+        return Math.min(Math.max(resolvedIndex, 0), size);
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.cleverton.heusner.projection;
+
+final class CompactMap extends ShapedMap {
+
+    private final Object[] values;
+
+    CompactMap(final String[] keys, final Object[] values) {
+        super(keys);
+        this.values = values;
+    }
+
+    @Override
+    Object valueAt(final int index) {
+        return values[index];
+    }
+}
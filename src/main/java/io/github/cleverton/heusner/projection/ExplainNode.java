@@ -0,0 +1,27 @@
+package io.github.cleverton.heusner.projection;
+
+import java.util.List;
+
+public record ExplainNode(String name,
+                          Class<?> declaringClass,
+                          String javaField,
+                          String outputName,
+                          FieldResolution resolution,
+                          long visits,
+                          long collections,
+                          long collectionElements,
+                          int maxCollectionSize,
+                          long nanos,
+                          List<ExplainNode> children) {
+
+    public ExplainNode {
+        children = List.copyOf(children);
+    }
+
+    public ExplainNode getChild(final String name) {
+        return children.stream()
+                .filter(child -> child.name().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+}
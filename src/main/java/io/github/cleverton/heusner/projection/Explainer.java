@@ -0,0 +1,199 @@
+package io.github.cleverton.heusner.projection;
+
+import io.github.cleverton.heusner.accessor.AccessorStrategy;
+import io.github.cleverton.heusner.metadata.ClassMetadata;
+import io.github.cleverton.heusner.metadata.FieldMetadata;
+import io.github.cleverton.heusner.plan.SelectionNode;
+import io.github.cleverton.heusner.plan.SelectionPlan;
+import io.github.cleverton.heusner.plan.Slice;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public final class Explainer {
+
+    private final ProjectionEngine engine;
+    private final AccessorStrategy accessorStrategy;
+    private final long maxVisitedNodes;
+
+    public Explainer(final ProjectionEngine engine,
+                     final AccessorStrategy accessorStrategy,
+                     final long maxVisitedNodes) {
+        this.engine = engine;
+        this.accessorStrategy = accessorStrategy;
+        this.maxVisitedNodes = maxVisitedNodes;
+    }
+
+    public ExplainNode explain(final SelectionPlan plan, final Object entity) {
+        final var root = new NodeProfile(plan.getRoot());
+        final ProjectionContext context = ProjectionContext.limited(maxVisitedNodes);
+        final long start = System.nanoTime();
+
+        root.visits++;
+        final TreeModel treeModel = TreeModel.of(entity);
+        if (treeModel != null) {
+            TreeProjection.requireObject(treeModel, entity);
+            explainTreeObject(treeModel, entity, root, context);
+        }
+        else {
+            explainSubfields(root, entity, context);
+        }
+        root.nanos = System.nanoTime() - start;
+
+        return root.toExplainNode();
+    }
+
+    private void explainSubfields(final NodeProfile profile, final Object field, final ProjectionContext context) {
+        final NodeBinding binding = NodeBinding.of(profile.node, field.getClass(), engine, accessorStrategy, context);
+        final ClassMetadata classMetadata = ClassMetadata.of(field.getClass());
+        context.objectVisited(binding.size());
+
+        for (int i = 0; i < binding.size(); i++) {
+            final NodeProfile child = profile.children[i];
+            child.resolve(classMetadata.getField(child.node.getName()));
+
+            final long start = System.nanoTime();
+            child.visits++;
+            explainField(binding.read(i, field), child, context);
+            child.nanos += System.nanoTime() - start;
+        }
+    }
+
+    private void explainField(final Object field, final NodeProfile profile, final ProjectionContext context) {
+        if (field == null) {
+            return;
+        }
+
+        final TreeModel treeModel = TreeModel.of(field);
+        if (treeModel != null) {
+            explainTreeValue(treeModel, field, profile, profile.node.getSlice(), context);
+        }
+        else if (field instanceof Collection<?> collection) {
+            profile.collectionVisited(collection.size());
+            context.elementsVisited(collection.size());
+
+            if (!profile.node.isLeaf()) {
+                for (final Object item : collection) {
+                    explainField(item, profile, context);
+                }
+            }
+        }
+        else if (!profile.node.isLeaf()) {
+            explainSubfields(profile, field, context);
+        }
+    }
+
+    private void explainTreeObject(final TreeModel model,
+                                   final Object object,
+                                   final NodeProfile profile,
+                                   final ProjectionContext context) {
+        context.objectVisited(profile.children.length);
+
+        for (final NodeProfile child : profile.children) {
+            final Object subfield = model.get(object, child.node.getName());
+
+            if (subfield != null) {
+                child.treeField = true;
+
+                final long start = System.nanoTime();
+                child.visits++;
+                explainTreeValue(model, subfield, child, child.node.getSlice(), context);
+                child.nanos += System.nanoTime() - start;
+            }
+        }
+    }
+
+    private void explainTreeValue(final TreeModel model,
+                                  final Object value,
+                                  final NodeProfile profile,
+                                  final Slice slice,
+                                  final ProjectionContext context) {
+        if (model.isArray(value)) {
+            final int size = model.size(value);
+            final int fromIndex = slice == null ? 0 : slice.fromIndex(size);
+            final int toIndex = slice == null ? size : slice.toIndex(size);
+            profile.collectionVisited(toIndex - fromIndex);
+            context.elementsVisited(toIndex - fromIndex);
+
+            if (!profile.node.isLeaf()) {
+                for (int i = fromIndex; i < toIndex; i++) {
+                    explainTreeValue(model, model.element(value, i), profile, null, context);
+                }
+            }
+        }
+        else if (!profile.node.isLeaf() && model.isObject(value)) {
+            explainTreeObject(model, value, profile, context);
+        }
+    }
+
+    private static final class NodeProfile {
+
+        private final SelectionNode node;
+        private final NodeProfile[] children;
+
+        private FieldMetadata fieldMetadata;
+        private boolean treeField;
+        private long visits;
+        private long collections;
+        private long collectionElements;
+        private int maxCollectionSize;
+        private long nanos;
+
+        private NodeProfile(final SelectionNode node) {
+            this.node = node;
+            this.children = node.getChildren().stream()
+                    .map(NodeProfile::new)
+                    .toArray(NodeProfile[]::new);
+        }
+
+        private void resolve(final FieldMetadata fieldMetadata) {
+            if (this.fieldMetadata == null) {
+                this.fieldMetadata = fieldMetadata;
+            }
+        }
+
+        private void collectionVisited(final int size) {
+            collections++;
+            collectionElements += size;
+            maxCollectionSize = Math.max(maxCollectionSize, size);
+        }
+
+        private ExplainNode toExplainNode() {
+            return new ExplainNode(
+                    node.getName(),
+                    fieldMetadata == null ? null : fieldMetadata.getDeclaringClass(),
+                    fieldMetadata == null ? null : fieldMetadata.getName(),
+                    outputName(),
+                    resolution(),
+                    visits,
+                    collections,
+                    collectionElements,
+                    maxCollectionSize,
+                    nanos,
+                    Arrays.stream(children).map(NodeProfile::toExplainNode).toList()
+            );
+        }
+
+        private String outputName() {
+            if (fieldMetadata == null) {
+                return treeField ? node.getName() : null;
+            }
+
+            return fieldMetadata.getSerializedName();
+        }
+
+        private FieldResolution resolution() {
+            if (fieldMetadata == null) {
+                if (node.getName().isEmpty()) {
+                    return FieldResolution.ROOT;
+                }
+
+                return treeField ? FieldResolution.RAW_NAME : FieldResolution.UNRESOLVED;
+            }
+
+            return fieldMetadata.getName().equals(node.getName()) ?
+                    FieldResolution.RAW_NAME :
+                    FieldResolution.SERIALIZED_NAME;
+        }
+    }
+}
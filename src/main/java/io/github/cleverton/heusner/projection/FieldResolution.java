@@ -0,0 +1,8 @@
+package io.github.cleverton.heusner.projection;
+
+public enum FieldResolution {
+    ROOT,
+    RAW_NAME,
+    SERIALIZED_NAME,
+    UNRESOLVED
+}
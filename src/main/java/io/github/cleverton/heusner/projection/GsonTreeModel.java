@@ -0,0 +1,72 @@
+package io.github.cleverton.heusner.projection;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+final class GsonTreeModel implements TreeModel {
+
+    static final GsonTreeModel INSTANCE = new GsonTreeModel();
+
+    private GsonTreeModel() {
+    }
+
+    @Override
+    public boolean isObject(final Object value) {
+        return ((JsonElement) value).isJsonObject();
+    }
+
+    @Override
+    public boolean isArray(final Object value) {
+        return ((JsonElement) value).isJsonArray();
+    }
+
+    @Override
+    public Object get(final Object object, final String name) {
+        return ((JsonElement) object).getAsJsonObject().get(name);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterable<Map.Entry<String, Object>> fields(final Object object) {
+        return (Iterable) ((JsonElement) object).getAsJsonObject().entrySet();
+    }
+
+    @Override
+    public int size(final Object array) {
+        return ((JsonElement) array).getAsJsonArray().size();
+    }
+
+    @Override
+    public Object element(final Object array, final int index) {
+        return ((JsonElement) array).getAsJsonArray().get(index);
+    }
+
+    @Override
+    public Object scalar(final Object value) {
+        if (!(value instanceof JsonPrimitive primitive)) {
+            return null;
+        }
+
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        }
+
+        if (primitive.isString()) {
+            return primitive.getAsString();
+        }
+
+        final BigDecimal number = primitive.getAsBigDecimal();
+        if (number.scale() > 0) {
+            return number;
+        }
+
+        try {
+            return number.longValueExact();
+        } catch (final ArithmeticException e) {
+            return number;
+        }
+    }
+}
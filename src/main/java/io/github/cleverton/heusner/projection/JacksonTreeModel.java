@@ -0,0 +1,73 @@
+package io.github.cleverton.heusner.projection;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+final class JacksonTreeModel implements TreeModel {
+
+    static final JacksonTreeModel INSTANCE = new JacksonTreeModel();
+
+    private JacksonTreeModel() {
+    }
+
+    @Override
+    public boolean isObject(final Object value) {
+        return ((JsonNode) value).isObject();
+    }
+
+    @Override
+    public boolean isArray(final Object value) {
+        return ((JsonNode) value).isArray();
+    }
+
+    @Override
+    public Object get(final Object object, final String name) {
+        return ((JsonNode) object).get(name);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Iterable<Map.Entry<String, Object>> fields(final Object object) {
+        return () -> (java.util.Iterator) ((JsonNode) object).fields();
+    }
+
+    @Override
+    public int size(final Object array) {
+        return ((JsonNode) array).size();
+    }
+
+    @Override
+    public Object element(final Object array, final int index) {
+        return ((JsonNode) array).get(index);
+    }
+
+    @Override
+    public Object scalar(final Object value) {
+        final var node = (JsonNode) value;
+
+        if (node.isNumber()) {
+            return node.numberValue();
+        }
+
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+
+        if (node.isBinary()) {
+            try {
+                return node.binaryValue();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return node.isNull() || node.isMissingNode() ? null : node.asText();
+    }
+}
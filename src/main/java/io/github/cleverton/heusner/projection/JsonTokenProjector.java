@@ -0,0 +1,177 @@
+package io.github.cleverton.heusner.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.github.cleverton.heusner.plan.SelectionNode;
+import io.github.cleverton.heusner.plan.SelectionPlan;
+import io.github.cleverton.heusner.plan.Slice;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public final class JsonTokenProjector {
+
+    public void project(final SelectionPlan plan, final JsonParser parser, final JsonGenerator generator)
+            throws IOException {
+        if (parser.currentToken() == null && parser.nextToken() == null) {
+            return;
+        }
+
+        projectValue(plan.getRoot(), parser, generator);
+        generator.flush();
+    }
+
+    private void projectValue(final SelectionNode node, final JsonParser parser, final JsonGenerator generator)
+            throws IOException {
+        final JsonToken token = parser.currentToken();
+
+        if (node.isLeaf() || !token.isStructStart()) {
+            generator.copyCurrentStructure(parser);
+        }
+        else if (token == JsonToken.START_OBJECT) {
+            projectObject(node, parser, generator);
+        }
+        else {
+            generator.writeStartArray();
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                projectValue(node, parser, generator);
+            }
+
+            generator.writeEndArray();
+        }
+    }
+
+    private void projectObject(final SelectionNode node, final JsonParser parser, final JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            final SelectionNode child = node.getChild(name);
+            parser.nextToken();
+
+            if (child == null) {
+                parser.skipChildren();
+                continue;
+            }
+
+            generator.writeFieldName(name);
+
+            if (child.getSlice() != null && parser.currentToken() == JsonToken.START_ARRAY) {
+                projectSlice(child, parser, generator);
+            }
+            else {
+                projectValue(child, parser, generator);
+            }
+        }
+
+        generator.writeEndObject();
+    }
+
+    private void projectSlice(final SelectionNode node, final JsonParser parser, final JsonGenerator generator)
+            throws IOException {
+        final Slice slice = node.getSlice();
+        generator.writeStartArray();
+
+        if (isNonNegative(slice.start()) && isNonNegative(slice.end())) {
+            projectBoundedSlice(node, slice.start() == null ? 0 : slice.start(), slice.end(), parser, generator);
+        }
+        else if (isNonNegative(slice.start())) {
+            projectDelayedSlice(node, slice.start() == null ? 0 : slice.start(), -slice.end(), parser, generator);
+        }
+        else {
+            projectTailSlice(node, slice, parser, generator);
+        }
+
+        generator.writeEndArray();
+    }
+
+    private void projectBoundedSlice(final SelectionNode node,
+                                     final int fromIndex,
+                                     final Integer toIndex,
+                                     final JsonParser parser,
+                                     final JsonGenerator generator) throws IOException {
+        for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+            if (i >= fromIndex && (toIndex == null || i < toIndex)) {
+                projectValue(node, parser, generator);
+            }
+            else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void projectDelayedSlice(final SelectionNode node,
+                                     final int fromIndex,
+                                     final int delay,
+                                     final JsonParser parser,
+                                     final JsonGenerator generator) throws IOException {
+        final Deque<TokenBuffer> elements = new ArrayDeque<>();
+
+        for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+            if (i < fromIndex) {
+                parser.skipChildren();
+                continue;
+            }
+
+            elements.addLast(bufferElement(parser));
+
+            if (elements.size() > delay) {
+                projectBufferedElement(node, elements.removeFirst(), parser, generator);
+            }
+        }
+    }
+
+    private void projectTailSlice(final SelectionNode node,
+                                  final Slice slice,
+                                  final JsonParser parser,
+                                  final JsonGenerator generator) throws IOException {
+        final int capacity = -slice.start();
+        final Deque<TokenBuffer> elements = new ArrayDeque<>();
+
+        int size = 0;
+        for (; parser.nextToken() != JsonToken.END_ARRAY; size++) {
+            elements.addLast(bufferElement(parser));
+
+            if (elements.size() > capacity) {
+                elements.removeFirst();
+            }
+        }
+
+        final int fromIndex = slice.fromIndex(size);
+        final int toIndex = slice.toIndex(size);
+        int index = size - elements.size();
+
+        for (final TokenBuffer element : elements) {
+            if (index >= fromIndex && index < toIndex) {
+                projectBufferedElement(node, element, parser, generator);
+            }
+
+            index++;
+        }
+    }
+
+    private TokenBuffer bufferElement(final JsonParser parser) throws IOException {
+        final var element = new TokenBuffer(parser);
+        element.copyCurrentStructure(parser);
+        return element;
+    }
+
+    private void projectBufferedElement(final SelectionNode node,
+                                        final TokenBuffer element,
+                                        final JsonParser parser,
+                                        final JsonGenerator generator) throws IOException {
+        try (JsonParser elementParser = element.asParser(parser.getCodec())) {
+            elementParser.nextToken();
+            projectValue(node, elementParser, generator);
+        }
+    }
+
+    private static boolean isNonNegative(final Integer bound) {
+        return bound == null || bound >= 0;
+    }
+}
@@ -0,0 +1,4 @@
+package io.github.cleverton.heusner.projection;
+
+record LazySlot(Object source, Object value) {
+}
@@ -0,0 +1,79 @@
+package io.github.cleverton.heusner.projection;
+
+import io.github.cleverton.heusner.accessor.AccessorStrategy;
+import io.github.cleverton.heusner.accessor.FieldAccessor;
+import io.github.cleverton.heusner.metadata.ClassMetadata;
+import io.github.cleverton.heusner.metadata.FieldMetadata;
+import io.github.cleverton.heusner.plan.SelectionNode;
+import io.github.cleverton.heusner.plan.Slice;
+
+import java.util.Collection;
+
+final class NodeBinding {
+
+    final String[] keys;
+    final Class<?>[] types;
+    final FieldAccessor[] accessors;
+    final SelectionNode[] subselections;
+    final Slice[] slices;
+
+    private NodeBinding(final SelectionNode node,
+                        final Class<?> type,
+                        final AccessorStrategy accessorStrategy,
+                        final ProjectionContext context) {
+        final ClassMetadata classMetadata = ClassMetadata.of(type, context);
+        final int size = node.getChildren().size();
+        final String[] outputNames = new String[size];
+
+        this.types = new Class<?>[size];
+        this.accessors = new FieldAccessor[size];
+        this.subselections = new SelectionNode[size];
+        this.slices = new Slice[size];
+
+        int i = 0;
+        for (final SelectionNode child : node.getChildren()) {
+            final FieldMetadata fieldMetadata = classMetadata.getField(child.getName());
+            outputNames[i] = fieldMetadata.getSerializedName();
+            types[i] = fieldMetadata.getType();
+            accessors[i] = fieldMetadata.getAccessor(accessorStrategy);
+            subselections[i] = child.isLeaf() ? null : child;
+            slices[i] = child.getSlice();
+            i++;
+        }
+
+        this.keys = node.shareOutputNames(outputNames);
+    }
+
+    static NodeBinding of(final SelectionNode node,
+                          final Class<?> type,
+                          final ProjectionEngine engine,
+                          final AccessorStrategy accessorStrategy,
+                          final ProjectionContext context) {
+        if (engine != ProjectionEngine.COMPILED) {
+            return new NodeBinding(node, type, accessorStrategy, context);
+        }
+
+        final NodeBinding cachedBinding = node.findBinding(type, accessorStrategy);
+        if (cachedBinding != null) {
+            context.bindingResolved(true);
+            return cachedBinding;
+        }
+
+        context.bindingResolved(false);
+        return node.getBinding(type, accessorStrategy, t -> new NodeBinding(node, t, accessorStrategy, context));
+    }
+
+    Object read(final int index, final Object entity) {
+        return slice(index, accessors[index].get(entity));
+    }
+
+    Object slice(final int index, final Object value) {
+        return slices[index] != null && value instanceof Collection<?> collection ?
+                slices[index].select(collection) :
+                value;
+    }
+
+    int size() {
+        return keys.length;
+    }
+}
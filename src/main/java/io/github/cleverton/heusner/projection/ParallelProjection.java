@@ -0,0 +1,146 @@
+package io.github.cleverton.heusner.projection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+public final class ParallelProjection {
+
+    private static final int MINIMUM_CHUNK_SIZE = 64;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final ThreadLocal<Boolean> INSIDE_CHUNK = ThreadLocal.withInitial(() -> false);
+
+    private final int threshold;
+    private final Executor executor;
+    private final int parallelism;
+
+    public ParallelProjection(final int threshold, final Executor executor) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The parallel threshold must be positive.");
+        }
+
+        this.threshold = threshold;
+        this.executor = executor;
+        this.parallelism = executor instanceof ForkJoinPool pool ?
+                pool.getParallelism() :
+                Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    boolean accepts(final Collection<?> collection) {
+        return collection.size() >= threshold && (executor instanceof ForkJoinPool || !INSIDE_CHUNK.get());
+    }
+
+    List<Object> project(final Collection<?> collection, final ChunkProjector chunkProjector) {
+        final Object[] items = collection.toArray();
+        final int chunkSize = Math.max(MINIMUM_CHUNK_SIZE, Math.ceilDiv(items.length, parallelism * CHUNKS_PER_THREAD));
+
+        if (executor instanceof ForkJoinPool pool) {
+            final var task = new ChunkTask(items, 0, items.length, chunkSize, chunkProjector);
+
+            if (ForkJoinTask.getPool() == pool) {
+                task.invoke();
+            }
+            else {
+                pool.invoke(task);
+            }
+        }
+        else {
+            projectWithExecutor(items, chunkSize, chunkProjector);
+        }
+
+        return new ArrayList<>(Arrays.asList(items));
+    }
+
+    private void projectWithExecutor(final Object[] items,
+                                     final int chunkSize,
+                                     final ChunkProjector chunkProjector) {
+        final List<CompletableFuture<Void>> chunks = new ArrayList<>();
+
+        for (int start = 0; start < items.length; start += chunkSize) {
+            final int chunkStart = start;
+            final int chunkEnd = Math.min(items.length, start + chunkSize);
+
+            chunks.add(CompletableFuture.runAsync(() -> {
+                INSIDE_CHUNK.set(true);
+                try {
+                    projectChunk(items, chunkStart, chunkEnd, chunkProjector);
+                } finally {
+                    INSIDE_CHUNK.remove();
+                }
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    private static void projectChunk(final Object[] items,
+                                     final int start,
+                                     final int end,
+                                     final ChunkProjector chunkProjector) {
+        chunkProjector.project(items, start, end);
+    }
+
+    @FunctionalInterface
+    interface ChunkProjector {
+
+        void project(Object[] items, int start, int end);
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+
+        private final Object[] items;
+        private final int start;
+        private final int end;
+        private final int chunkSize;
+        private final ChunkProjector chunkProjector;
+
+        private ChunkTask(final Object[] items,
+                          final int start,
+                          final int end,
+                          final int chunkSize,
+                          final ChunkProjector chunkProjector) {
+            this.items = items;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+            this.chunkProjector = chunkProjector;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= chunkSize) {
+                projectChunk(items, start, end, chunkProjector);
+                return;
+            }
+
+            final int middle = (start + end) >>> 1;
+            invokeAll(
+                    new ChunkTask(items, start, middle, chunkSize, chunkProjector),
+                    new ChunkTask(items, middle, end, chunkSize, chunkProjector)
+            );
+        }
+    }
+}
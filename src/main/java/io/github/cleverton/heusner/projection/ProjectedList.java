@@ -0,0 +1,59 @@
+package io.github.cleverton.heusner.projection;
+
+import io.github.cleverton.heusner.plan.SelectionNode;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+final class ProjectedList extends AbstractList<Object> implements RandomAccess {
+
+    private final Projector projector;
+    private final List<?> items;
+    private final SelectionNode subselection;
+    private final ProjectionContext context;
+    private LazySlot[] slots;
+
+    ProjectedList(final Projector projector,
+                  final Collection<?> items,
+                  final SelectionNode subselection,
+                  final ProjectionContext context) {
+        this.projector = projector;
+        this.items = items instanceof List<?> list && items instanceof RandomAccess ?
+                list :
+                Arrays.asList(items.toArray());
+        this.subselection = subselection;
+        this.context = context;
+    }
+
+    @Override
+    public Object get(final int index) {
+        final Object item = items.get(index);
+
+        if (item == null) {
+            return null;
+        }
+
+        if (slots == null || index >= slots.length) {
+            slots = slots == null ?
+                    new LazySlot[items.size()] :
+                    Arrays.copyOf(slots, Math.max(index + 1, items.size()));
+        }
+
+        final LazySlot slot = slots[index];
+        if (slot != null && slot.source() == item) {
+            return slot.value();
+        }
+
+        final Object projectedItem = projector.lazyField(item, subselection, context);
+        slots[index] = new LazySlot(item, projectedItem);
+        return projectedItem;
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+}
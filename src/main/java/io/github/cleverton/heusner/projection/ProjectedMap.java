@@ -0,0 +1,44 @@
+package io.github.cleverton.heusner.projection;
+
+final class ProjectedMap extends ShapedMap {
+
+    private final Projector projector;
+    private final NodeBinding binding;
+    private final Object entity;
+    private final ProjectionContext context;
+    private final LazySlot[] slots;
+
+    ProjectedMap(final Projector projector,
+                 final NodeBinding binding,
+                 final Object entity,
+                 final ProjectionContext context) {
+        super(binding.keys);
+        this.projector = projector;
+        this.binding = binding;
+        this.entity = entity;
+        this.context = context;
+        this.slots = new LazySlot[binding.size()];
+    }
+
+    @Override
+    Object valueAt(final int index) {
+        final Object value = binding.accessors[index].get(entity);
+
+        if (binding.subselections[index] == null || value == null) {
+            return binding.slice(index, value);
+        }
+
+        final LazySlot slot = slots[index];
+        if (slot != null && slot.source() == value) {
+            return slot.value();
+        }
+
+        final Object projectedValue = projector.lazyField(
+                binding.slice(index, value),
+                binding.subselections[index],
+                context
+        );
+        slots[index] = new LazySlot(value, projectedValue);
+        return projectedValue;
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.cleverton.heusner.projection;
+
+import io.github.cleverton.heusner.exception.QueryLimitExceededException;
+import io.github.cleverton.heusner.jfr.ProjectionEvent;
+import io.github.cleverton.heusner.metadata.MetadataCacheListener;
+import io.github.cleverton.heusner.metrics.ProjectionStats;
+import io.github.cleverton.heusner.metrics.RestQlMetrics;
+import io.github.cleverton.heusner.plan.SelectionPlan;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+final class ProjectionContext implements MetadataCacheListener {
+
+    static final ProjectionContext DISABLED = new ProjectionContext(false, Long.MAX_VALUE);
+
+    private final boolean enabled;
+    private final long maxVisitedNodes;
+    private final AtomicLong visitedNodes = new AtomicLong();
+    private final long start;
+    private final LongAdder objectsVisited = new LongAdder();
+    private final LongAdder elementsVisited = new LongAdder();
+    private final LongAdder outputFields = new LongAdder();
+    private final LongAdder bindingCacheHits = new LongAdder();
+    private final LongAdder bindingCacheMisses = new LongAdder();
+    private final LongAdder metadataCacheHits = new LongAdder();
+    private final LongAdder metadataCacheMisses = new LongAdder();
+
+    private ProjectionContext(final boolean enabled, final long maxVisitedNodes) {
+        this.enabled = enabled;
+        this.maxVisitedNodes = maxVisitedNodes;
+        this.start = enabled ? System.nanoTime() : 0;
+    }
+
+    static ProjectionContext start(final RestQlMetrics metrics,
+                                   final ProjectionEvent event,
+                                   final long maxVisitedNodes) {
+        event.begin();
+        final boolean enabled = metrics != RestQlMetrics.NOOP || event.isEnabled();
+
+        return !enabled && maxVisitedNodes == Long.MAX_VALUE ?
+                DISABLED :
+                new ProjectionContext(enabled, maxVisitedNodes);
+    }
+
+    static ProjectionContext limited(final long maxVisitedNodes) {
+        return maxVisitedNodes == Long.MAX_VALUE ? DISABLED : new ProjectionContext(false, maxVisitedNodes);
+    }
+
+    void objectVisited(final int fields) {
+        visit(1);
+
+        if (enabled) {
+            objectsVisited.increment();
+            outputFields.add(fields);
+        }
+    }
+
+    void elementsVisited(final int elements) {
+        visit(elements);
+
+        if (enabled) {
+            elementsVisited.add(elements);
+        }
+    }
+
+    void bindingResolved(final boolean cacheHit) {
+        if (enabled) {
+            (cacheHit ? bindingCacheHits : bindingCacheMisses).increment();
+        }
+    }
+
+    @Override
+    public void metadataResolved(final boolean cacheHit) {
+        if (enabled) {
+            (cacheHit ? metadataCacheHits : metadataCacheMisses).increment();
+        }
+    }
+
+    void stop(final RestQlMetrics metrics,
+              final ProjectionEvent event,
+              final SelectionPlan plan,
+              final Class<?> entityClass) {
+        if (!enabled) {
+            return;
+        }
+
+        final ProjectionStats stats = stats();
+        metrics.projected(stats);
+
+        if (event.shouldCommit()) {
+            event.setEntityClass(entityClass);
+            event.setFields(plan.toString());
+            event.setObjectCount(stats.objectsVisited());
+            event.setElementCount(stats.elementsVisited());
+            event.commit();
+        }
+    }
+
+    private void visit(final int nodes) {
+        if (maxVisitedNodes != Long.MAX_VALUE && visitedNodes.addAndGet(nodes) > maxVisitedNodes) {
+            throw new QueryLimitExceededException(
+                    "The query exceeded the maximum of " + maxVisitedNodes + " visited nodes."
+            );
+        }
+    }
+
+    private ProjectionStats stats() {
+        return new ProjectionStats(
+                System.nanoTime() - start,
+                objectsVisited.sum(),
+                elementsVisited.sum(),
+                outputFields.sum(),
+                bindingCacheHits.sum(),
+                bindingCacheMisses.sum(),
+                metadataCacheHits.sum(),
+                metadataCacheMisses.sum()
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.cleverton.heusner.projection;
+
+public enum ProjectionEngine {
+    REFLECTIVE,
+    COMPILED
+}
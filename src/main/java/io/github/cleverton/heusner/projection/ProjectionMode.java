@@ -0,0 +1,7 @@
+package io.github.cleverton.heusner.projection;
+
+public enum ProjectionMode {
+    EAGER,
+    COMPACT,
+    LAZY
+}
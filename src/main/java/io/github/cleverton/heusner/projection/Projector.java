@@ -0,0 +1,228 @@
+package io.github.cleverton.heusner.projection;
+
+import io.github.cleverton.heusner.accessor.AccessorStrategy;
+import io.github.cleverton.heusner.jfr.ProjectionEvent;
+import io.github.cleverton.heusner.metrics.RestQlMetrics;
+import io.github.cleverton.heusner.plan.SelectionNode;
+import io.github.cleverton.heusner.plan.SelectionPlan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class Projector {
+
+    private final ProjectionEngine engine;
+    private final AccessorStrategy accessorStrategy;
+    private final ParallelProjection parallelProjection;
+    private final ProjectionMode mode;
+    private final RestQlMetrics metrics;
+    private final long maxVisitedNodes;
+
+    public Projector(final ProjectionEngine engine,
+                     final AccessorStrategy accessorStrategy,
+                     final ParallelProjection parallelProjection,
+                     final ProjectionMode mode,
+                     final RestQlMetrics metrics,
+                     final long maxVisitedNodes) {
+        this.engine = engine;
+        this.accessorStrategy = accessorStrategy;
+        this.parallelProjection = parallelProjection;
+        this.mode = mode;
+        this.metrics = metrics;
+        this.maxVisitedNodes = maxVisitedNodes;
+    }
+
+    public Map<String, Object> project(final SelectionPlan plan, final Object entity) {
+        final var event = new ProjectionEvent();
+        final ProjectionContext context = ProjectionContext.start(metrics, event, maxVisitedNodes);
+        final TreeModel treeModel = TreeModel.of(entity);
+        final Map<String, Object> projectedEntity = treeModel != null ?
+                TreeProjection.projectRoot(treeModel, entity, plan.getRoot(), context) :
+                project(bind(plan.getRoot(), entity, context), entity, context);
+        context.stop(metrics, event, plan, entity.getClass());
+
+        return projectedEntity;
+    }
+
+    public List<Map<String, Object>> projectAll(final SelectionPlan plan, final Iterable<?> entities) {
+        final var event = new ProjectionEvent();
+        final ProjectionContext context = ProjectionContext.start(metrics, event, maxVisitedNodes);
+        final SelectionNode root = plan.getRoot();
+        final List<Map<String, Object>> projectedEntities = entities instanceof Collection<?> collection ?
+                new ArrayList<>(collection.size()) :
+                new ArrayList<>();
+        final Map<Class<?>, NodeBinding> bindings = new HashMap<>();
+
+        Class<?> lastType = null;
+        NodeBinding binding = null;
+
+        for (final Object entity : entities) {
+            if (entity == null) {
+                projectedEntities.add(null);
+                continue;
+            }
+
+            final TreeModel treeModel = TreeModel.of(entity);
+            if (treeModel != null) {
+                projectedEntities.add(TreeProjection.projectRoot(treeModel, entity, root, context));
+                continue;
+            }
+
+            if (entity.getClass() != lastType) {
+                lastType = entity.getClass();
+                binding = bindings.computeIfAbsent(lastType, type ->
+                        NodeBinding.of(root, type, engine, accessorStrategy, context)
+                );
+            }
+
+            projectedEntities.add(project(binding, entity, context));
+        }
+
+        context.elementsVisited(projectedEntities.size());
+        context.stop(metrics, event, plan, entities.getClass());
+
+        return projectedEntities;
+    }
+
+    Object lazyField(final Object field, final SelectionNode subselection, final ProjectionContext context) {
+        if (subselection == null || field == null) {
+            return field;
+        }
+
+        final TreeModel treeModel = TreeModel.of(field);
+        if (treeModel != null) {
+            return TreeProjection.project(treeModel, field, subselection, context);
+        }
+
+        if (field instanceof Collection<?> collection) {
+            context.elementsVisited(collection.size());
+            return new ProjectedList(this, collection, subselection, context);
+        }
+
+        final NodeBinding binding = bind(subselection, field, context);
+        context.objectVisited(binding.size());
+        return new ProjectedMap(this, binding, field, context);
+    }
+
+    private Map<String, Object> project(final NodeBinding binding,
+                                        final Object entity,
+                                        final ProjectionContext context) {
+        if (mode == ProjectionMode.LAZY) {
+            context.objectVisited(binding.size());
+            return new ProjectedMap(this, binding, entity, context);
+        }
+
+        return selectSubfields(binding, entity, context);
+    }
+
+    private NodeBinding bind(final SelectionNode node, final Object field, final ProjectionContext context) {
+        return NodeBinding.of(node, field.getClass(), engine, accessorStrategy, context);
+    }
+
+    private Map<String, Object> selectSubfields(final NodeBinding binding,
+                                                final Object field,
+                                                final ProjectionContext context) {
+        context.objectVisited(binding.size());
+
+        if (mode == ProjectionMode.COMPACT) {
+            return selectCompactSubfields(binding, field, context);
+        }
+
+        final Map<String, Object> selectedSubfields = HashMap.newHashMap(binding.size());
+
+        for (int i = 0; i < binding.size(); i++) {
+            final Object subfield = binding.read(i, field);
+            selectedSubfields.put(binding.keys[i], inferField(subfield, binding.subselections[i], context));
+        }
+
+        return selectedSubfields;
+    }
+
+    private Map<String, Object> selectCompactSubfields(final NodeBinding binding,
+                                                       final Object field,
+                                                       final ProjectionContext context) {
+        final Object[] values = new Object[binding.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = inferField(binding.read(i, field), binding.subselections[i], context);
+        }
+
+        return new CompactMap(binding.keys, values);
+    }
+
+    private Object inferField(final Object field, final SelectionNode subselection, final ProjectionContext context) {
+        if (subselection == null || field == null) {
+            return field;
+        }
+
+        final TreeModel treeModel = TreeModel.of(field);
+        if (treeModel != null) {
+            return TreeProjection.project(treeModel, field, subselection, context);
+        }
+
+        if (field instanceof Collection<?> collection) {
+            return selectSubfieldsInCollection(collection, subselection, context);
+        }
+
+        return selectSubfields(bind(subselection, field, context), field, context);
+    }
+
+    private List<Object> selectSubfieldsInCollection(final Collection<?> collection,
+                                                     final SelectionNode subselection,
+                                                     final ProjectionContext context) {
+        context.elementsVisited(collection.size());
+
+        if (parallelProjection != null && parallelProjection.accepts(collection)) {
+            return parallelProjection.project(collection, (items, start, end) ->
+                    selectItems(items, start, end, subselection, context));
+        }
+
+        final List<Object> selectedItems = new ArrayList<>(collection.size());
+        Class<?> lastType = null;
+        NodeBinding binding = null;
+
+        for (final Object item : collection) {
+            if (item == null || item instanceof Collection<?> || TreeModel.of(item) != null) {
+                selectedItems.add(inferField(item, subselection, context));
+                continue;
+            }
+
+            if (item.getClass() != lastType) {
+                lastType = item.getClass();
+                binding = bind(subselection, item, context);
+            }
+
+            selectedItems.add(selectSubfields(binding, item, context));
+        }
+
+        return selectedItems;
+    }
+
+    private void selectItems(final Object[] items,
+                             final int start,
+                             final int end,
+                             final SelectionNode subselection,
+                             final ProjectionContext context) {
+        Class<?> lastType = null;
+        NodeBinding binding = null;
+
+        for (int i = start; i < end; i++) {
+            final Object item = items[i];
+
+            if (item == null || item instanceof Collection<?> || TreeModel.of(item) != null) {
+                items[i] = inferField(item, subselection, context);
+                continue;
+            }
+
+            if (item.getClass() != lastType) {
+                lastType = item.getClass();
+                binding = bind(subselection, item, context);
+            }
+
+            items[i] = selectSubfields(binding, item, context);
+        }
+    }
+}
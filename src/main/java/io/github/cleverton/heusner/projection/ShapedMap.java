@@ -0,0 +1,82 @@
+package io.github.cleverton.heusner.projection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+abstract class ShapedMap extends AbstractMap<String, Object> {
+
+    private final String[] keys;
+
+    ShapedMap(final String[] keys) {
+        this.keys = keys;
+    }
+
+    abstract Object valueAt(int index);
+
+    String[] keys() {
+        return keys;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+
+                        final int current = index++;
+                        return new SimpleImmutableEntry<>(keys[current], valueAt(current));
+                    }
+                };
+            }
+        };
+    }
+
+    private int indexOf(final Object key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
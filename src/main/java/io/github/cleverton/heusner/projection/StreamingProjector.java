@@ -0,0 +1,148 @@
+package io.github.cleverton.heusner.projection;
+
+import io.github.cleverton.heusner.accessor.AccessorStrategy;
+import io.github.cleverton.heusner.accessor.FieldAccessor;
+import io.github.cleverton.heusner.jfr.ProjectionEvent;
+import io.github.cleverton.heusner.metrics.RestQlMetrics;
+import io.github.cleverton.heusner.plan.SelectionNode;
+import io.github.cleverton.heusner.plan.SelectionPlan;
+import io.github.cleverton.heusner.sink.ProjectionSink;
+
+import java.io.IOException;
+import java.util.Collection;
+
+public final class StreamingProjector {
+
+    private final ProjectionEngine engine;
+    private final AccessorStrategy accessorStrategy;
+    private final RestQlMetrics metrics;
+    private final long maxVisitedNodes;
+
+    public StreamingProjector(final ProjectionEngine engine,
+                              final AccessorStrategy accessorStrategy,
+                              final RestQlMetrics metrics,
+                              final long maxVisitedNodes) {
+        this.engine = engine;
+        this.accessorStrategy = accessorStrategy;
+        this.metrics = metrics;
+        this.maxVisitedNodes = maxVisitedNodes;
+    }
+
+    public void write(final SelectionPlan plan, final Object entity, final ProjectionSink sink) throws IOException {
+        final var event = new ProjectionEvent();
+        final ProjectionContext context = ProjectionContext.start(metrics, event, maxVisitedNodes);
+        final TreeModel treeModel = TreeModel.of(entity);
+        if (treeModel != null) {
+            TreeProjection.writeRoot(treeModel, entity, plan.getRoot(), sink, context);
+        }
+        else {
+            writeSubfields(bind(plan.getRoot(), entity, context), entity, sink, context);
+        }
+        context.stop(metrics, event, plan, entity.getClass());
+    }
+
+    private NodeBinding bind(final SelectionNode node, final Object field, final ProjectionContext context) {
+        return NodeBinding.of(node, field.getClass(), engine, accessorStrategy, context);
+    }
+
+    private void writeSubfields(final NodeBinding binding,
+                                final Object field,
+                                final ProjectionSink sink,
+                                final ProjectionContext context) throws IOException {
+        context.objectVisited(binding.size());
+        sink.startObject();
+
+        for (int i = 0; i < binding.size(); i++) {
+            sink.fieldName(binding.keys[i]);
+
+            if (binding.subselections[i] == null) {
+                writeLeaf(binding, i, field, sink);
+            }
+            else {
+                writeField(binding.read(i, field), binding.subselections[i], sink, context);
+            }
+        }
+
+        sink.endObject();
+    }
+
+    private void writeLeaf(final NodeBinding binding, final int index, final Object field, final ProjectionSink sink)
+            throws IOException {
+        final Class<?> type = binding.types[index];
+        final FieldAccessor accessor = binding.accessors[index];
+
+        if (type == long.class) {
+            sink.longValue(accessor.getLong(field));
+        }
+        else if (type == int.class || type == short.class || type == byte.class) {
+            sink.intValue(accessor.getInt(field));
+        }
+        else if (type == boolean.class) {
+            sink.booleanValue(accessor.getBoolean(field));
+        }
+        else if (type == double.class) {
+            sink.doubleValue(accessor.getDouble(field));
+        }
+        else if (type == float.class) {
+            sink.floatValue(accessor.getFloat(field));
+        }
+        else {
+            writeValue(binding.read(index, field), sink);
+        }
+    }
+
+    private void writeField(final Object field,
+                            final SelectionNode subselection,
+                            final ProjectionSink sink,
+                            final ProjectionContext context) throws IOException {
+        final TreeModel treeModel = TreeModel.of(field);
+
+        if (field == null) {
+            sink.nullValue();
+        }
+        else if (treeModel != null) {
+            TreeProjection.write(treeModel, field, subselection, sink, context);
+        }
+        else if (field instanceof Collection<?> collection) {
+            context.elementsVisited(collection.size());
+            sink.startArray(collection.size());
+
+            writeItems(collection, subselection, sink, context);
+            sink.endArray();
+        }
+        else {
+            writeSubfields(bind(subselection, field, context), field, sink, context);
+        }
+    }
+
+    private void writeItems(final Collection<?> collection,
+                            final SelectionNode subselection,
+                            final ProjectionSink sink,
+                            final ProjectionContext context) throws IOException {
+        Class<?> lastType = null;
+        NodeBinding binding = null;
+
+        for (final Object item : collection) {
+            if (item == null || item instanceof Collection<?> || TreeModel.of(item) != null) {
+                writeField(item, subselection, sink, context);
+                continue;
+            }
+
+            if (item.getClass() != lastType) {
+                lastType = item.getClass();
+                binding = bind(subselection, item, context);
+            }
+
+            writeSubfields(binding, item, sink, context);
+        }
+    }
+
+    private void writeValue(final Object value, final ProjectionSink sink) throws IOException {
+        if (value == null) {
+            sink.nullValue();
+        }
+        else {
+            sink.value(value);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.cleverton.heusner.projection;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.gson.JsonElement;
+
+import java.util.Map;
+
+interface TreeModel {
+
+    static TreeModel of(final Object value) {
+        if (value instanceof JsonNode) {
+            return JacksonTreeModel.INSTANCE;
+        }
+
+        if (value instanceof JsonElement) {
+            return GsonTreeModel.INSTANCE;
+        }
+
+        return null;
+    }
+
+    boolean isObject(Object value);
+
+    boolean isArray(Object value);
+
+    Object get(Object object, String name);
+
+    Iterable<Map.Entry<String, Object>> fields(Object object);
+
+    int size(Object array);
+
+    Object element(Object array, int index);
+
+    Object scalar(Object value);
+}
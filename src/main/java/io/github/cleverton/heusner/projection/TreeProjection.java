@@ -0,0 +1,243 @@
+package io.github.cleverton.heusner.projection;
+
+import io.github.cleverton.heusner.plan.SelectionNode;
+import io.github.cleverton.heusner.plan.Slice;
+import io.github.cleverton.heusner.sink.ProjectionSink;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class TreeProjection {
+
+    private TreeProjection() {
+    }
+
+    static Map<String, Object> projectRoot(final TreeModel model,
+                                           final Object tree,
+                                           final SelectionNode root,
+                                           final ProjectionContext context) {
+        requireObject(model, tree);
+        return projectObject(model, tree, root, context);
+    }
+
+    static Object project(final TreeModel model,
+                          final Object value,
+                          final SelectionNode node,
+                          final ProjectionContext context) {
+        final Slice slice = node.getSlice();
+        if (slice != null && model.isArray(value)) {
+            final int size = model.size(value);
+            final int fromIndex = slice.fromIndex(size);
+            final int toIndex = slice.toIndex(size);
+            context.elementsVisited(toIndex - fromIndex);
+
+            final List<Object> selectedItems = new ArrayList<>(toIndex - fromIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                selectedItems.add(projectValue(model, model.element(value, i), node, context));
+            }
+
+            return selectedItems;
+        }
+
+        return projectValue(model, value, node, context);
+    }
+
+    static void writeRoot(final TreeModel model,
+                          final Object tree,
+                          final SelectionNode root,
+                          final ProjectionSink sink,
+                          final ProjectionContext context) throws IOException {
+        requireObject(model, tree);
+        writeObject(model, tree, root, sink, context);
+    }
+
+    static void write(final TreeModel model,
+                      final Object value,
+                      final SelectionNode node,
+                      final ProjectionSink sink,
+                      final ProjectionContext context) throws IOException {
+        final Slice slice = node.getSlice();
+        if (slice != null && model.isArray(value)) {
+            final int size = model.size(value);
+            final int fromIndex = slice.fromIndex(size);
+            final int toIndex = slice.toIndex(size);
+            context.elementsVisited(toIndex - fromIndex);
+            sink.startArray(toIndex - fromIndex);
+
+            for (int i = fromIndex; i < toIndex; i++) {
+                writeValue(model, model.element(value, i), node, sink, context);
+            }
+
+            sink.endArray();
+            return;
+        }
+
+        writeValue(model, value, node, sink, context);
+    }
+
+    private static Object projectValue(final TreeModel model,
+                                       final Object value,
+                                       final SelectionNode node,
+                                       final ProjectionContext context) {
+        if (node.isLeaf()) {
+            return convert(model, value);
+        }
+
+        if (model.isObject(value)) {
+            return projectObject(model, value, node, context);
+        }
+
+        if (model.isArray(value)) {
+            final int size = model.size(value);
+            context.elementsVisited(size);
+
+            final List<Object> selectedItems = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                selectedItems.add(projectValue(model, model.element(value, i), node, context));
+            }
+
+            return selectedItems;
+        }
+
+        return model.scalar(value);
+    }
+
+    private static Map<String, Object> projectObject(final TreeModel model,
+                                                     final Object object,
+                                                     final SelectionNode node,
+                                                     final ProjectionContext context) {
+        context.objectVisited(node.getChildren().size());
+        final Map<String, Object> selectedSubfields = HashMap.newHashMap(node.getChildren().size());
+
+        for (final SelectionNode child : node.getChildren()) {
+            final Object subfield = model.get(object, child.getName());
+
+            if (subfield != null) {
+                selectedSubfields.put(child.getName(), project(model, subfield, child, context));
+            }
+        }
+
+        return selectedSubfields;
+    }
+
+    private static Object convert(final TreeModel model, final Object value) {
+        if (model.isObject(value)) {
+            final Map<String, Object> fields = new LinkedHashMap<>();
+
+            for (final Map.Entry<String, Object> field : model.fields(value)) {
+                fields.put(field.getKey(), convert(model, field.getValue()));
+            }
+
+            return fields;
+        }
+
+        if (model.isArray(value)) {
+            final int size = model.size(value);
+            final List<Object> items = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                items.add(convert(model, model.element(value, i)));
+            }
+
+            return items;
+        }
+
+        return model.scalar(value);
+    }
+
+    private static void writeValue(final TreeModel model,
+                                   final Object value,
+                                   final SelectionNode node,
+                                   final ProjectionSink sink,
+                                   final ProjectionContext context) throws IOException {
+        if (node.isLeaf()) {
+            writeTree(model, value, sink);
+        }
+        else if (model.isObject(value)) {
+            writeObject(model, value, node, sink, context);
+        }
+        else if (model.isArray(value)) {
+            final int size = model.size(value);
+            context.elementsVisited(size);
+            sink.startArray(size);
+
+            for (int i = 0; i < size; i++) {
+                writeValue(model, model.element(value, i), node, sink, context);
+            }
+
+            sink.endArray();
+        }
+        else {
+            writeScalar(model.scalar(value), sink);
+        }
+    }
+
+    private static void writeObject(final TreeModel model,
+                                    final Object object,
+                                    final SelectionNode node,
+                                    final ProjectionSink sink,
+                                    final ProjectionContext context) throws IOException {
+        context.objectVisited(node.getChildren().size());
+        sink.startObject();
+
+        for (final SelectionNode child : node.getChildren()) {
+            final Object subfield = model.get(object, child.getName());
+
+            if (subfield != null) {
+                sink.fieldName(child.getName());
+                write(model, subfield, child, sink, context);
+            }
+        }
+
+        sink.endObject();
+    }
+
+    private static void writeTree(final TreeModel model, final Object value, final ProjectionSink sink)
+            throws IOException {
+        if (model.isObject(value)) {
+            sink.startObject();
+
+            for (final Map.Entry<String, Object> field : model.fields(value)) {
+                sink.fieldName(field.getKey());
+                writeTree(model, field.getValue(), sink);
+            }
+
+            sink.endObject();
+        }
+        else if (model.isArray(value)) {
+            final int size = model.size(value);
+            sink.startArray(size);
+
+            for (int i = 0; i < size; i++) {
+                writeTree(model, model.element(value, i), sink);
+            }
+
+            sink.endArray();
+        }
+        else {
+            writeScalar(model.scalar(value), sink);
+        }
+    }
+
+    private static void writeScalar(final Object value, final ProjectionSink sink) throws IOException {
+        if (value == null) {
+            sink.nullValue();
+        }
+        else if (value instanceof Boolean booleanValue) {
+            sink.booleanValue(booleanValue);
+        }
+        else {
+            sink.value(value);
+        }
+    }
+
+    static void requireObject(final TreeModel model, final Object tree) {
+        if (!model.isObject(tree)) {
+            throw new IllegalArgumentException("The JSON tree must be an object.");
+        }
+    }
+}
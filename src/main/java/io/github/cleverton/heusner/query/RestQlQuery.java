@@ -1,163 +1,239 @@
 package io.github.cleverton.heusner.query;
 
-import io.github.cleverton.heusner.exception.EntityNotInformedException;
-import io.github.cleverton.heusner.exception.FieldNotFoundException;
-import io.github.cleverton.heusner.exception.NoFieldsInformedException;
-import io.github.cleverton.heusner.serialization.SerializationAnnotation;
-import io.github.cleverton.heusner.serialization.SerializationAnnotationSelector;
-import io.github.cleverton.heusner.utils.MapsMerger;
-
-import java.lang.reflect.Field;
-import java.util.*;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import io.github.cleverton.heusner.accessor.AccessorStrategy;
+import io.github.cleverton.heusner.exception.QueryLimitExceededException;
+import io.github.cleverton.heusner.metrics.RestQlMetrics;
+import io.github.cleverton.heusner.plan.SelectionPlan;
+import io.github.cleverton.heusner.plan.SelectionPlanCache;
+import io.github.cleverton.heusner.projection.ExplainNode;
+import io.github.cleverton.heusner.projection.Explainer;
+import io.github.cleverton.heusner.projection.JsonTokenProjector;
+import io.github.cleverton.heusner.projection.ParallelProjection;
+import io.github.cleverton.heusner.projection.ProjectionEngine;
+import io.github.cleverton.heusner.projection.ProjectionMode;
+import io.github.cleverton.heusner.projection.Projector;
+import io.github.cleverton.heusner.projection.StreamingProjector;
+import io.github.cleverton.heusner.sink.ProjectionSink;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 public class RestQlQuery {
 
     public static final String FIELDS = "fields";
 
-    private static final String COMMA = ",";
-    private static final String DOT = "\\.";
-    private Object rootField;
-    private List<String> fields;
+    private final SelectionPlanCache planCache;
+    private final AccessorStrategy accessorStrategy;
+    private final ProjectionEngine engine;
+    private final ProjectionMode mode;
+    private final RestQlMetrics metrics;
+    private final int maxDepth;
+    private final int maxPaths;
+    private final long maxVisitedNodes;
+    private final ParallelProjection parallelProjection;
+    private final Projector projector;
+    private final StreamingProjector streamingProjector;
+    private final Explainer explainer;
+    private final JsonTokenProjector jsonTokenProjector;
 
-    public Map<String, Object> from(final Object entity) {
-        this.rootField = entity;
-
-        if (rootField == null) {
-           throw new EntityNotInformedException("Entity not informed.");
-        }
+    public RestQlQuery() {
+        this(builder());
+    }
 
-        return selectFields(fields, new HashMap<>());
+    private RestQlQuery(final Builder builder) {
+        this.planCache = builder.planCache;
+        this.accessorStrategy = builder.accessorStrategy != null ?
+                builder.accessorStrategy :
+                builder.engine == ProjectionEngine.COMPILED ? AccessorStrategy.GENERATED : AccessorStrategy.REFLECTION;
+        this.engine = builder.engine;
+        this.mode = builder.mode;
+        this.metrics = builder.metrics;
+        this.maxDepth = builder.maxDepth;
+        this.maxPaths = builder.maxPaths;
+        this.maxVisitedNodes = builder.maxVisitedNodes;
+        this.parallelProjection = builder.parallelThreshold == null ?
+                null :
+                new ParallelProjection(builder.parallelThreshold, builder.parallelExecutor);
+        this.projector = new Projector(engine, accessorStrategy, parallelProjection, mode, metrics, maxVisitedNodes);
+        this.streamingProjector = new StreamingProjector(engine, accessorStrategy, metrics, maxVisitedNodes);
+        this.explainer = new Explainer(engine, accessorStrategy, maxVisitedNodes);
+        this.jsonTokenProjector = new JsonTokenProjector();
     }
 
-    public RestQlQuery select(final String...fields) {
-        this.fields = removeBlankFields(Arrays.stream(fields));
-        validateFields();
-        return this;
+    public static Builder builder() {
+        return new Builder();
     }
 
-    public RestQlQuery select(final List<String> fields) {
-        this.fields = removeBlankFields(fields.stream());
-        validateFields();
-        return this;
+    public SelectionPlanCache getPlanCache() {
+        return planCache;
     }
 
-    public RestQlQuery select(final String fieldsSeparatedByComma) {
-        fields = removeBlankFields(Arrays.stream(fieldsSeparatedByComma.split(COMMA)));
-        validateFields();
-        return this;
+    public AccessorStrategy getAccessorStrategy() {
+        return accessorStrategy;
     }
 
-    private List<String> removeBlankFields(final Stream<String> fields) {
-        return fields.filter(Objects::nonNull)
-                .map(String::trim)
-                .filter(Predicate.not(String::isEmpty))
-                .toList();
+    public ProjectionEngine getEngine() {
+        return engine;
     }
 
-    private void validateFields() {
-        if (fields.isEmpty()) {
-            throw new NoFieldsInformedException("You must inform at least one field.");
-        }
+    public ProjectionMode getMode() {
+        return mode;
     }
 
-    private Map<String, Object> selectFields(final List<String> fields,
-                                             final Map<String, Object> previousSelectedSubfields) {
+    public RestQlMetrics getMetrics() {
+        return metrics;
+    }
 
-        final var currentSelectedSubfields = selectSubfields(extractSubfields(fields), rootField);
-        final List<String> remainingFields = removeFirst(fields);
+    public int getMaxDepth() {
+        return maxDepth;
+    }
 
-        @SuppressWarnings("unchecked")
-        final var selectedSubfields = MapsMerger.merge(
-                previousSelectedSubfields,
-                (Map<String, Object>) currentSelectedSubfields
-        );
+    public int getMaxPaths() {
+        return maxPaths;
+    }
 
-        return inferSubfields(selectedSubfields, remainingFields);
+    public long getMaxVisitedNodes() {
+        return maxVisitedNodes;
     }
 
-    private Map<String, Object> inferSubfields(final Map<String, Object> selectedSubfields,
-                                               final List<String> remainingFields) {
-        return remainingFields.isEmpty() ?
-                selectedSubfields :
-                selectFields(remainingFields, selectedSubfields);
+    public Optional<ParallelProjection> getParallelProjection() {
+        return Optional.ofNullable(parallelProjection);
     }
 
-    private List<String> extractSubfields(final List<String> fields) {
-        return Arrays.asList(fields.getFirst().split(DOT));
+    public RestQlSelection select(final String...fields) {
+        return select(planCache.get(Arrays.asList(fields), metrics, maxDepth, maxPaths));
     }
 
-    private Object selectSubfields(final List<String> subFields, final Object field) {
-        try {
-            if (isCollection(field)) {
-                return selectSubfieldsInCollection(field, subFields);
-            }
+    public RestQlSelection select(final List<String> fields) {
+        return select(planCache.get(fields, metrics, maxDepth, maxPaths));
+    }
 
-            final Field firstFieldMetadata = retrieveFirstFieldMetadata(field, subFields);
-            final Object firstField = firstFieldMetadata.get(field);
-            final List<String> remainingSubfields = removeFirst(subFields);
+    public RestQlSelection select(final String fieldsSeparatedByComma) {
+        return select(planCache.get(fieldsSeparatedByComma, metrics, maxDepth, maxPaths));
+    }
 
-            return new HashMap<>() {{
-                put(retrieveFieldName(firstFieldMetadata), inferField(firstField, remainingSubfields));
-            }};
-        } catch (final IllegalAccessException e) {
-            throw new RuntimeException(e);
+    public RestQlSelection select(final SelectionPlan plan) {
+        if (plan.getDepth() > maxDepth) {
+            throw new QueryLimitExceededException("The selection exceeded the maximum depth of " + maxDepth + ".");
         }
-    }
 
-    private Object inferField(final Object firstField, final List<String> remainingSubfields) {
-        if (remainingSubfields.isEmpty())
-            return firstField;
+        if (plan.getPaths().size() > maxPaths) {
+            throw new QueryLimitExceededException("The selection exceeded the maximum of " + maxPaths + " paths.");
+        }
 
-        return selectSubfields(remainingSubfields, firstField);
+        return new RestQlSelection(this, plan);
     }
 
-    private Field retrieveFirstFieldMetadata(final Object field, final List<String> subFields) {
-        if (isCollection(field)) {
-            return retrieveFirstFieldMetadata(retrieveFirstItemFromCollection(field), subFields);
-        }
-
-        return Arrays.stream(field.getClass().getDeclaredFields())
-                .filter(f -> {
-                    final var serializationAnnotation = SerializationAnnotationSelector.select(f);
-                    return serializationAnnotation.isPresent() &&
-                            serializationAnnotation.get().getValue().equals(subFields.getFirst());
-                })
-                .peek(f -> f.setAccessible(true))
-                .findFirst()
-                .orElseGet(() -> {
-                    try {
-                        final Field fieldMetadata = field.getClass().getDeclaredField(subFields.getFirst());
-                        fieldMetadata.setAccessible(true);
-                        return fieldMetadata;
-                    } catch (final NoSuchFieldException e) {
-                        throw new FieldNotFoundException("Field '" + subFields.getFirst() + "' not found.");
-                    }
-                });
+    Map<String, Object> project(final SelectionPlan plan, final Object entity) {
+        return projector.project(plan, entity);
     }
 
-    private boolean isCollection(final Object field) {
-        return Collection.class.isAssignableFrom(field.getClass());
+    List<Map<String, Object>> projectAll(final SelectionPlan plan, final Iterable<?> entities) {
+        return projector.projectAll(plan, entities);
     }
 
-    private List<Object> selectSubfieldsInCollection(final Object field, final List<String> subFields) {
-        return new ArrayList<>(((Collection<?>) field).stream()
-                .map(f -> selectSubfields(subFields, f))
-                .toList());
+    void write(final SelectionPlan plan, final Object entity, final ProjectionSink sink) throws IOException {
+        streamingProjector.write(plan, entity, sink);
     }
 
-    private Object retrieveFirstItemFromCollection(final Object collection) {
-        return ((Collection<?>) collection).iterator().next();
+    void filter(final SelectionPlan plan, final JsonParser parser, final JsonGenerator generator) throws IOException {
+        jsonTokenProjector.project(plan, parser, generator);
     }
 
-    private List<String> removeFirst(final List<String> list) {
-        return list.subList(1, list.size());
+    ExplainNode explain(final SelectionPlan plan, final Object entity) {
+        return explainer.explain(plan, entity);
     }
 
-    private String retrieveFieldName(final Field fieldMetadata) {
-        return SerializationAnnotationSelector.select(fieldMetadata)
-                .map(SerializationAnnotation::getValue)
-                .orElse(fieldMetadata.getName());
+
+    public static class Builder {
+
+        private SelectionPlanCache planCache = new SelectionPlanCache();
+        private AccessorStrategy accessorStrategy;
+        private ProjectionEngine engine = ProjectionEngine.REFLECTIVE;
+        private ProjectionMode mode = ProjectionMode.EAGER;
+        private RestQlMetrics metrics = RestQlMetrics.NOOP;
+        private int maxDepth = Integer.MAX_VALUE;
+        private int maxPaths = Integer.MAX_VALUE;
+        private long maxVisitedNodes = Long.MAX_VALUE;
+        private Integer parallelThreshold;
+        private Executor parallelExecutor = ForkJoinPool.commonPool();
+
+        private Builder() {
+        }
+
+        public Builder planCache(final SelectionPlanCache planCache) {
+            this.planCache = Objects.requireNonNull(planCache);
+            return this;
+        }
+
+        public Builder accessorStrategy(final AccessorStrategy accessorStrategy) {
+            this.accessorStrategy = Objects.requireNonNull(accessorStrategy);
+            return this;
+        }
+
+        public Builder engine(final ProjectionEngine engine) {
+            this.engine = Objects.requireNonNull(engine);
+            return this;
+        }
+
+        public Builder mode(final ProjectionMode mode) {
+            this.mode = Objects.requireNonNull(mode);
+            return this;
+        }
+
+        public Builder metrics(final RestQlMetrics metrics) {
+            this.metrics = Objects.requireNonNull(metrics);
+            return this;
+        }
+
+        public Builder maxDepth(final int maxDepth) {
+            if (maxDepth < 1) {
+                throw new IllegalArgumentException("The maximum depth must be positive.");
+            }
+
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        public Builder maxPaths(final int maxPaths) {
+            if (maxPaths < 1) {
+                throw new IllegalArgumentException("The maximum number of paths must be positive.");
+            }
+
+            this.maxPaths = maxPaths;
+            return this;
+        }
+
+        public Builder maxVisitedNodes(final long maxVisitedNodes) {
+            if (maxVisitedNodes < 1) {
+                throw new IllegalArgumentException("The maximum number of visited nodes must be positive.");
+            }
+
+            this.maxVisitedNodes = maxVisitedNodes;
+            return this;
+        }
+
+        public Builder parallelThreshold(final int parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        public Builder parallelExecutor(final Executor parallelExecutor) {
+            this.parallelExecutor = Objects.requireNonNull(parallelExecutor);
+            return this;
+        }
+
+        public RestQlQuery build() {
+            return new RestQlQuery(this);
+        }
+
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+package io.github.cleverton.heusner.query;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import io.github.cleverton.heusner.exception.EntityNotInformedException;
+import io.github.cleverton.heusner.jackson.RestQlModule;
+import io.github.cleverton.heusner.plan.SelectionPlan;
+import io.github.cleverton.heusner.projection.ExplainNode;
+import io.github.cleverton.heusner.sink.GsonProjectionSink;
+import io.github.cleverton.heusner.sink.JacksonProjectionSink;
+import io.github.cleverton.heusner.sink.ProjectionSink;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+public final class RestQlSelection {
+
+    private static final Gson GSON = new Gson();
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final RestQlQuery query;
+    private final SelectionPlan plan;
+
+    RestQlSelection(final RestQlQuery query, final SelectionPlan plan) {
+        this.query = query;
+        this.plan = plan;
+    }
+
+    public SelectionPlan getPlan() {
+        return plan;
+    }
+
+    public Map<String, Object> from(final Object entity) {
+        if (entity == null) {
+            throw new EntityNotInformedException("Entity not informed.");
+        }
+
+        return query.project(plan, entity);
+    }
+
+    public List<Map<String, Object>> fromAll(final Iterable<?> entities) {
+        if (entities == null) {
+            throw new EntityNotInformedException("Entities not informed.");
+        }
+
+        return query.projectAll(plan, entities);
+    }
+
+    public ObjectWriter writer(final ObjectMapper objectMapper) {
+        return RestQlModule.writer(objectMapper, plan);
+    }
+
+    public void filter(final InputStream json, final OutputStream output) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+            filter(parser, generator);
+        }
+    }
+
+    public byte[] filter(final byte[] json) throws IOException {
+        final var output = new ByteArrayOutputStream(json.length);
+        filter(new ByteArrayInputStream(json), output);
+        return output.toByteArray();
+    }
+
+    public void filter(final JsonParser parser, final JsonGenerator generator) throws IOException {
+        query.filter(plan, parser, generator);
+    }
+
+    public ExplainNode explain(final Object entity) {
+        if (entity == null) {
+            throw new EntityNotInformedException("Entity not informed.");
+        }
+
+        return query.explain(plan, entity);
+    }
+
+    public void writeTo(final Object entity, final JsonGenerator generator) throws IOException {
+        writeTo(entity, new JacksonProjectionSink(generator));
+    }
+
+    public void writeTo(final Object entity, final OutputStream output, final ObjectMapper objectMapper)
+            throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writeTo(entity, generator);
+        }
+    }
+
+    public void writeTo(final Object entity, final JsonWriter writer) throws IOException {
+        writeTo(entity, writer, GSON);
+    }
+
+    public void writeTo(final Object entity, final JsonWriter writer, final Gson gson) throws IOException {
+        writeTo(entity, new GsonProjectionSink(writer, gson));
+    }
+
+    public void writeTo(final Object entity, final ProjectionSink sink) throws IOException {
+        if (entity == null) {
+            throw new EntityNotInformedException("Entity not informed.");
+        }
+
+        query.write(plan, entity, sink);
+    }
+}
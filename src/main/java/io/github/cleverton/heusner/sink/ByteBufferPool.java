@@ -0,0 +1,65 @@
+package io.github.cleverton.heusner.sink;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ByteBufferPool {
+
+    public static final int DEFAULT_BUFFER_SIZE = 16 * 1024;
+    public static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+    private final int bufferSize;
+    private final int maximumSize;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public ByteBufferPool() {
+        this(DEFAULT_BUFFER_SIZE, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public ByteBufferPool(final int bufferSize, final int maximumSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("The buffer size must be positive.");
+        }
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size of the buffer pool must be positive.");
+        }
+
+        this.bufferSize = bufferSize;
+        this.maximumSize = maximumSize;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public ByteBuffer acquire() {
+        final ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        size.decrementAndGet();
+        return buffer.clear();
+    }
+
+    public void release(final ByteBuffer buffer) {
+        if (!buffer.isDirect() || buffer.capacity() != bufferSize) {
+            return;
+        }
+
+        if (size.incrementAndGet() <= maximumSize) {
+            buffers.offer(buffer);
+        }
+        else {
+            size.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package io.github.cleverton.heusner.sink;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ByteBufferProjectionSink implements ProjectionSink, AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int MAX_QUOTED_NAMES = 4096;
+    private static final Map<String, byte[]> QUOTED_NAMES = new ConcurrentHashMap<>();
+
+    private final ByteBufferPool pool;
+    private final ObjectMapper objectMapper;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private final byte[] digits = new byte[19];
+
+    private ByteBuffer buffer;
+    private JsonGenerator generator;
+    private boolean needsComma;
+
+    public ByteBufferProjectionSink(final ByteBufferPool pool) {
+        this(pool, OBJECT_MAPPER);
+    }
+
+    public ByteBufferProjectionSink(final ByteBufferPool pool, final ObjectMapper objectMapper) {
+        this.pool = pool;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void startObject() {
+        separate();
+        put((byte) '{');
+        needsComma = false;
+    }
+
+    @Override
+    public void endObject() {
+        put((byte) '}');
+        needsComma = true;
+    }
+
+    @Override
+    public void startArray(final int size) {
+        separate();
+        put((byte) '[');
+        needsComma = false;
+    }
+
+    @Override
+    public void endArray() {
+        put((byte) ']');
+        needsComma = true;
+    }
+
+    @Override
+    public void fieldName(final String name) {
+        separate();
+        final byte[] quotedName = quotedName(name);
+
+        if (quotedName != null) {
+            put(quotedName);
+        }
+        else {
+            putString(name);
+            put((byte) ':');
+        }
+
+        needsComma = false;
+    }
+
+    @Override
+    public void nullValue() {
+        separate();
+        put(NULL);
+        needsComma = true;
+    }
+
+    @Override
+    public void booleanValue(final boolean value) {
+        separate();
+        put(value ? TRUE : FALSE);
+        needsComma = true;
+    }
+
+    @Override
+    public void intValue(final int value) {
+        longValue(value);
+    }
+
+    @Override
+    public void longValue(final long value) {
+        separate();
+        putLong(value);
+        needsComma = true;
+    }
+
+    @Override
+    public void floatValue(final float value) {
+        if (Float.isFinite(value)) {
+            number(Float.toString(value));
+        }
+        else {
+            string(Float.toString(value));
+        }
+    }
+
+    @Override
+    public void doubleValue(final double value) {
+        if (Double.isFinite(value)) {
+            number(Double.toString(value));
+        }
+        else {
+            string(Double.toString(value));
+        }
+    }
+
+    @Override
+    public void value(final Object value) throws IOException {
+        switch (value) {
+            case String string -> string(string);
+            case Character character -> string(character.toString());
+            case Boolean booleanValue -> booleanValue(booleanValue);
+            case Integer intValue -> intValue(intValue);
+            case Long longValue -> longValue(longValue);
+            case Short shortValue -> intValue(shortValue);
+            case Byte byteValue -> intValue(byteValue);
+            case Double doubleValue -> doubleValue(doubleValue);
+            case Float floatValue -> floatValue(floatValue);
+            case BigInteger bigInteger -> number(bigInteger.toString());
+            case BigDecimal bigDecimal -> number(bigDecimal.toString());
+            default -> {
+                separate();
+                objectMapper.writeValue(generator(), value);
+                generator.flush();
+                needsComma = true;
+            }
+        }
+    }
+
+    public long size() {
+        long size = 0;
+
+        for (final ByteBuffer filledBuffer : buffers) {
+            size += filledBuffer.position();
+        }
+
+        return size;
+    }
+
+    public List<ByteBuffer> buffers() {
+        final List<ByteBuffer> readableBuffers = new ArrayList<>(buffers.size());
+
+        for (final ByteBuffer filledBuffer : buffers) {
+            readableBuffers.add(filledBuffer.duplicate().flip());
+        }
+
+        return readableBuffers;
+    }
+
+    public long writeTo(final WritableByteChannel channel) throws IOException {
+        final ByteBuffer[] readableBuffers = buffers().toArray(ByteBuffer[]::new);
+        final long size = size();
+        long written = 0;
+
+        if (channel instanceof GatheringByteChannel gatheringChannel) {
+            while (written < size) {
+                written += gatheringChannel.write(readableBuffers);
+            }
+
+            return written;
+        }
+
+        for (final ByteBuffer readableBuffer : readableBuffers) {
+            while (readableBuffer.hasRemaining()) {
+                written += channel.write(readableBuffer);
+            }
+        }
+
+        return written;
+    }
+
+    @Override
+    public void close() {
+        if (generator != null) {
+            try {
+                generator.close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            generator = null;
+        }
+
+        buffers.forEach(pool::release);
+        buffers.clear();
+        buffer = null;
+        needsComma = false;
+    }
+
+    private void number(final String number) {
+        separate();
+        putAscii(number);
+        needsComma = true;
+    }
+
+    private void string(final String string) {
+        separate();
+        putString(string);
+        needsComma = true;
+    }
+
+    private void separate() {
+        if (needsComma) {
+            put((byte) ',');
+        }
+    }
+
+    private void put(final byte value) {
+        writableBuffer().put(value);
+    }
+
+    private void put(final byte[] bytes) {
+        put(bytes, 0, bytes.length);
+    }
+
+    private void put(final byte[] bytes, final int offset, final int length) {
+        int written = 0;
+
+        while (written < length) {
+            final ByteBuffer target = writableBuffer();
+            final int chunk = Math.min(target.remaining(), length - written);
+            target.put(bytes, offset + written, chunk);
+            written += chunk;
+        }
+    }
+
+    private void putAscii(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            put((byte) value.charAt(i));
+        }
+    }
+
+    private void putLong(final long value) {
+        if (value == Long.MIN_VALUE) {
+            put(LONG_MIN_VALUE);
+            return;
+        }
+
+        if (value < 0) {
+            put((byte) '-');
+        }
+
+        long remaining = Math.abs(value);
+        int position = digits.length;
+
+        do {
+            digits[--position] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+
+        put(digits, position, digits.length - position);
+    }
+
+    private void putString(final String value) {
+        put((byte) '"');
+
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+
+            if (c < 0x80) {
+                putAsciiChar(c);
+            }
+            else if (c < 0x800) {
+                put((byte) (0xc0 | c >> 6));
+                put((byte) (0x80 | c & 0x3f));
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                put((byte) (0xf0 | codePoint >> 18));
+                put((byte) (0x80 | codePoint >> 12 & 0x3f));
+                put((byte) (0x80 | codePoint >> 6 & 0x3f));
+                put((byte) (0x80 | codePoint & 0x3f));
+            }
+            else if (Character.isSurrogate(c)) {
+                put((byte) '?');
+            }
+            else {
+                put((byte) (0xe0 | c >> 12));
+                put((byte) (0x80 | c >> 6 & 0x3f));
+                put((byte) (0x80 | c & 0x3f));
+            }
+        }
+
+        put((byte) '"');
+    }
+
+    private void putAsciiChar(final char c) {
+        switch (c) {
+            case '"' -> putEscape('"');
+            case '\\' -> putEscape('\\');
+            case '\n' -> putEscape('n');
+            case '\r' -> putEscape('r');
+            case '\t' -> putEscape('t');
+            case '\b' -> putEscape('b');
+            case '\f' -> putEscape('f');
+            default -> {
+                if (c < 0x20) {
+                    putEscape('u');
+                    put((byte) '0');
+                    put((byte) '0');
+                    put((byte) HEX_DIGITS[c >> 4]);
+                    put((byte) HEX_DIGITS[c & 0xf]);
+                }
+                else {
+                    put((byte) c);
+                }
+            }
+        }
+    }
+
+    private void putEscape(final char c) {
+        put((byte) '\\');
+        put((byte) c);
+    }
+
+    private JsonGenerator generator() throws IOException {
+        if (generator == null) {
+            generator = objectMapper.getFactory().createGenerator(new BufferOutputStream());
+            generator.setRootValueSeparator(null);
+        }
+
+        return generator;
+    }
+
+    private ByteBuffer writableBuffer() {
+        if (buffer == null || !buffer.hasRemaining()) {
+            buffer = pool.acquire();
+            buffers.add(buffer);
+        }
+
+        return buffer;
+    }
+
+    private static byte[] quotedName(final String name) {
+        final byte[] quotedName = QUOTED_NAMES.get(name);
+
+        if (quotedName != null || QUOTED_NAMES.size() >= MAX_QUOTED_NAMES) {
+            return quotedName;
+        }
+
+        return QUOTED_NAMES.computeIfAbsent(name, ByteBufferProjectionSink::quote);
+    }
+
+    private static byte[] quote(final String name) {
+        final var quoted = new StringBuilder(name.length() + 3).append('"');
+
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                case '\b' -> quoted.append("\\b");
+                case '\f' -> quoted.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        quoted.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xf]);
+                    }
+                    else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+
+        return quoted.append("\":").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private final class BufferOutputStream extends OutputStream {
+
+        @Override
+        public void write(final int value) {
+            put((byte) value);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) {
+            put(bytes, offset, length);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.cleverton.heusner.sink;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+public class GsonProjectionSink implements ProjectionSink {
+
+    private final JsonWriter writer;
+    private final Gson gson;
+
+    public GsonProjectionSink(final JsonWriter writer, final Gson gson) {
+        this.writer = writer;
+        this.gson = gson;
+    }
+
+    @Override
+    public void startObject() throws IOException {
+        writer.beginObject();
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        writer.endObject();
+    }
+
+    @Override
+    public void startArray(final int size) throws IOException {
+        writer.beginArray();
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        writer.endArray();
+    }
+
+    @Override
+    public void fieldName(final String name) throws IOException {
+        writer.name(name);
+    }
+
+    @Override
+    public void nullValue() throws IOException {
+        writer.nullValue();
+    }
+
+    @Override
+    public void booleanValue(final boolean value) throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public void intValue(final int value) throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public void longValue(final long value) throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public void floatValue(final float value) throws IOException {
+        writer.value(Float.valueOf(value));
+    }
+
+    @Override
+    public void doubleValue(final double value) throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public void value(final Object value) throws IOException {
+        gson.toJson(value, value.getClass(), writer);
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.cleverton.heusner.sink;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+public class JacksonProjectionSink implements ProjectionSink {
+
+    private final JsonGenerator generator;
+
+    public JacksonProjectionSink(final JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public void startObject() throws IOException {
+        generator.writeStartObject();
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void startArray(final int size) throws IOException {
+        generator.writeStartArray(null, size);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        generator.writeEndArray();
+    }
+
+    @Override
+    public void fieldName(final String name) throws IOException {
+        generator.writeFieldName(name);
+    }
+
+    @Override
+    public void nullValue() throws IOException {
+        generator.writeNull();
+    }
+
+    @Override
+    public void booleanValue(final boolean value) throws IOException {
+        generator.writeBoolean(value);
+    }
+
+    @Override
+    public void intValue(final int value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    @Override
+    public void longValue(final long value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    @Override
+    public void floatValue(final float value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    @Override
+    public void doubleValue(final double value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    @Override
+    public void value(final Object value) throws IOException {
+        generator.writeObject(value);
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.cleverton.heusner.sink;
+
+import java.io.IOException;
+
+public interface ProjectionSink {
+
+    void startObject() throws IOException;
+
+    void endObject() throws IOException;
+
+    void startArray(int size) throws IOException;
+
+    void endArray() throws IOException;
+
+    void fieldName(String name) throws IOException;
+
+    void nullValue() throws IOException;
+
+    void booleanValue(boolean value) throws IOException;
+
+    void intValue(int value) throws IOException;
+
+    void longValue(long value) throws IOException;
+
+    void floatValue(float value) throws IOException;
+
+    void doubleValue(double value) throws IOException;
+
+    void value(Object value) throws IOException;
+}
@@ -0,0 +1,94 @@
+package io.github.cleverton.heusner.accessor;
+
+import io.github.cleverton.heusner.fixture.Pet;
+import io.github.cleverton.heusner.fixture.Post;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccessorStrategyTest {
+
+    private static final String DEFAULT_NAME = "post";
+
+    private static String name = DEFAULT_NAME;
+
+    @Test
+    void when_privateFieldsReadWithEveryStrategy_then_valuesReturned() throws NoSuchFieldException {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+        final Field id = Post.class.getDeclaredField("id");
+        final Field author = Post.class.getDeclaredField("author");
+
+        for (final AccessorStrategy strategy : AccessorStrategy.values()) {
+
+            // Act
+            final var actualId = strategy.createAccessor(id).get(post);
+            final var actualAuthor = strategy.createAccessor(author).get(post);
+
+            // Assert
+            assertThat(actualId).as(strategy.name()).isEqualTo(post.getId());
+            assertThat(actualAuthor).as(strategy.name()).isSameAs(post.getAuthor());
+        }
+    }
+
+    @Test
+    void when_primitiveFieldsReadWithEveryStrategy_then_unboxedValuesReturned() throws NoSuchFieldException {
+
+        // Arrange
+        final var pet = Instancio.create(Pet.class);
+        final Field age = Pet.class.getDeclaredField("age");
+
+        for (final AccessorStrategy strategy : AccessorStrategy.values()) {
+
+            // Act
+            final int actualAge = strategy.createAccessor(age).getInt(pet);
+
+            // Assert
+            assertThat(actualAge).as(strategy.name()).isEqualTo(pet.getAge());
+        }
+    }
+
+    @Test
+    void when_staticFieldReadWithEveryStrategy_then_valueReturned() throws NoSuchFieldException {
+
+        // Arrange
+        final Field staticField = AccessorStrategyTest.class.getDeclaredField("name");
+
+        for (final AccessorStrategy strategy : AccessorStrategy.values()) {
+
+            // Act
+            final var actualName = strategy.createAccessor(staticField).get(this);
+
+            // Assert
+            assertThat(actualName).as(strategy.name()).isEqualTo(DEFAULT_NAME);
+        }
+    }
+
+    @Test
+    void when_publicGetterExists_then_hiddenClassAccessorGenerated() throws NoSuchFieldException {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+
+        // Act
+        final var accessor = GetterAccessorGenerator.generate(Post.class.getDeclaredField("views"));
+
+        // Assert
+        assertThat(accessor.getClass().isHidden()).isTrue();
+        assertThat(accessor.get(post)).isEqualTo(post.getViews());
+    }
+
+    @Test
+    void when_noPublicGetterExists_then_methodHandleAccessorGenerated() throws NoSuchFieldException {
+
+        // Act
+        final var accessor = GetterAccessorGenerator.generate(AccessorStrategyTest.class.getDeclaredField("name"));
+
+        // Assert
+        assertThat(accessor).isInstanceOf(MethodHandleFieldAccessor.class);
+    }
+}
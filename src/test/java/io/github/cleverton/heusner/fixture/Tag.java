@@ -0,0 +1,29 @@
+package io.github.cleverton.heusner.fixture;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.cleverton.heusner.annotation.RestQlProjection;
+
+@RestQlProjection
+public class Tag {
+
+    private long id;
+
+    @JsonProperty("tag_label")
+    private String label;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+}
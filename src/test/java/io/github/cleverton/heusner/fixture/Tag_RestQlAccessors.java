@@ -0,0 +1,24 @@
+package io.github.cleverton.heusner.fixture;
+
+import io.github.cleverton.heusner.accessor.GeneratedAccessors;
+import io.github.cleverton.heusner.accessor.GeneratedField;
+
+import java.util.List;
+
+public final class Tag_RestQlAccessors implements GeneratedAccessors {
+
+    private static final List<GeneratedField> FIELDS = List.of(
+            new GeneratedField("id", "id", entity -> ((Tag) entity).getId()),
+            new GeneratedField("label", "tag_label", entity -> ((Tag) entity).getLabel())
+    );
+
+    @Override
+    public Class<?> getEntityType() {
+        return Tag.class;
+    }
+
+    @Override
+    public List<GeneratedField> getFields() {
+        return FIELDS;
+    }
+}
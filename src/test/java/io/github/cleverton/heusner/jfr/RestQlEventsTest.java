@@ -0,0 +1,90 @@
+package io.github.cleverton.heusner.jfr;
+
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.plan.SelectionPlan;
+import io.github.cleverton.heusner.query.RestQlQuery;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RestQlEventsTest {
+
+    private static final String PLAN_COMPILATION = "io.github.cleverton.heusner.PlanCompilation";
+    private static final String PROJECTION = "io.github.cleverton.heusner.Projection";
+    private static final String METADATA_RESOLUTION = "io.github.cleverton.heusner.MetadataResolution";
+
+    @TempDir
+    private Path recordingDirectory;
+
+    @Test
+    void when_eventsEnabled_then_compilationProjectionAndMetadataResolutionRecorded() throws IOException {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+        final var recordingFile = recordingDirectory.resolve("restql.jfr");
+
+        // Act
+        try (var recording = new Recording()) {
+            recording.enable(PLAN_COMPILATION);
+            recording.enable(PROJECTION);
+            recording.enable(METADATA_RESOLUTION);
+            recording.start();
+
+            new RestQlQuery().select(SelectionPlan.compile("id", "comments.id")).from(post);
+            new RestQlQuery().select("text").from(new Entity("text"));
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // Assert
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals(PLAN_COMPILATION))
+                .extracting(event -> event.getString("fields"))
+                .contains("id,comments.id", "text");
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals(PROJECTION))
+                .filteredOn(event -> event.getClass("entityClass").getName().equals(Post.class.getName()))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("fields")).isEqualTo("id,comments.id");
+                    assertThat(event.getLong("elementCount")).isEqualTo(post.getComments().size());
+                });
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals(METADATA_RESOLUTION))
+                .extracting(event -> event.getClass("entityClass").getName())
+                .contains(Entity.class.getName());
+    }
+
+    @Test
+    void when_eventsNotEnabled_then_nothingRecorded() throws IOException {
+
+        // Arrange
+        final var recordingFile = recordingDirectory.resolve("restql.jfr");
+
+        // Act
+        try (var recording = new Recording()) {
+            recording.start();
+            new RestQlQuery().select("id").from(Instancio.create(Post.class));
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // Assert
+        assertThat(RecordingFile.readAllEvents(recordingFile))
+                .noneMatch(event -> event.getEventType().getCategoryNames().contains("RestQl"));
+    }
+
+    private record Entity(String text) {
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.cleverton.heusner.metadata;
+
+import io.github.cleverton.heusner.accessor.AccessorStrategy;
+import io.github.cleverton.heusner.exception.FieldNotFoundException;
+import io.github.cleverton.heusner.fixture.Author;
+import io.github.cleverton.heusner.fixture.Pet;
+import io.github.cleverton.heusner.fixture.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ClassMetadataTest {
+
+    @Test
+    void when_sameClassRequestedTwice_then_sameMetadataReturned() {
+
+        // Act
+        final var metadata = ClassMetadata.of(Author.class);
+
+        // Assert
+        assertThat(ClassMetadata.of(Author.class)).isSameAs(metadata);
+    }
+
+    @Test
+    void when_fieldRequestedBySerializedOrRawName_then_sameFieldMetadataReturned() {
+
+        // Arrange
+        final var authorMetadata = ClassMetadata.of(Author.class);
+        final var petMetadata = ClassMetadata.of(Pet.class);
+
+        // Act
+        final var jacksonFieldBySerializedName = authorMetadata.getField("nick_name");
+        final var jacksonFieldByRawName = authorMetadata.getField("nickName");
+        final var gsonFieldBySerializedName = petMetadata.getField("nick_name");
+
+        // Assert
+        assertThat(jacksonFieldByRawName).isSameAs(jacksonFieldBySerializedName);
+        assertThat(jacksonFieldBySerializedName.getSerializedName()).isEqualTo("nick_name");
+        assertThat(jacksonFieldBySerializedName.getName()).isEqualTo("nickName");
+        assertThat(gsonFieldBySerializedName.getDeclaringClass()).isEqualTo(Pet.class);
+    }
+
+    @Test
+    void when_privateFieldRead_then_valueReturned() {
+
+        // Arrange
+        final var pet = new Pet();
+        pet.setAge(7);
+
+        // Act
+        final var age = ClassMetadata.of(Pet.class).getField("age").getAccessor(AccessorStrategy.REFLECTION).get(pet);
+
+        // Assert
+        assertThat(age).isEqualTo(7);
+    }
+
+    @Test
+    void when_nonExistingFieldRequested_then_fieldNotFoundExceptionReturned() {
+
+        // Arrange
+        final var authorMetadata = ClassMetadata.of(Author.class);
+
+        // Act
+        final var fieldNotFoundException = assertThrows(FieldNotFoundException.class, () ->
+                authorMetadata.getField("nonExistingField")
+        );
+
+        // Assert
+        assertThat(authorMetadata.findField("nonExistingField")).isNull();
+        assertThat(fieldNotFoundException.getMessage()).isEqualTo("Field 'nonExistingField' not found.");
+    }
+
+    @Test
+    void when_generatedAccessorsRegistered_then_generatedFieldMetadataReturned() {
+
+        // Arrange
+        final var tag = new Tag();
+        tag.setLabel("java");
+        final var tagMetadata = ClassMetadata.of(Tag.class);
+
+        // Act
+        final var labelBySerializedName = tagMetadata.getField("tag_label");
+        final var labelByRawName = tagMetadata.getField("label");
+
+        // Assert
+        assertThat(labelByRawName).isSameAs(labelBySerializedName);
+        assertThat(labelBySerializedName.isGenerated()).isTrue();
+        assertThat(labelBySerializedName.getAccessor(AccessorStrategy.REFLECTION).get(tag)).isEqualTo("java");
+        assertThat(ClassMetadata.of(Pet.class).getField("age").isGenerated()).isFalse();
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.cleverton.heusner.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HistogramTest {
+
+    @Test
+    void when_valuesRecorded_then_percentilesReturnedWithinBucketPrecision() {
+
+        // Arrange
+        final var histogram = new Histogram();
+
+        // Act
+        for (int value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        // Assert
+        assertThat(histogram.count()).isEqualTo(10_000);
+        assertThat(histogram.max()).isEqualTo(10_000);
+        assertThat(histogram.mean()).isEqualTo(5_000.5);
+        assertThat(histogram.percentile(50)).isCloseTo(5_000L, within(5_000L / 16));
+        assertThat(histogram.percentile(99)).isCloseTo(9_900L, within(9_900L / 16));
+        assertThat(histogram.percentile(100)).isEqualTo(10_000);
+    }
+
+    @Test
+    void when_histogramReset_then_noValuesReturned() {
+
+        // Arrange
+        final var histogram = new Histogram();
+        histogram.record(42);
+
+        // Act
+        histogram.reset();
+
+        // Assert
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.percentile(99)).isZero();
+    }
+
+    @Test
+    void when_invalidPercentileRequested_then_illegalArgumentExceptionReturned() {
+
+        // Act
+        final var illegalArgumentException = assertThrows(IllegalArgumentException.class, () ->
+                new Histogram().percentile(101)
+        );
+
+        // Assert
+        assertThat(illegalArgumentException.getMessage()).isEqualTo("The percentile must be between 0 and 100.");
+    }
+}
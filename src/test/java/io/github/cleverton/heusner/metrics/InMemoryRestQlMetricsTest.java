@@ -0,0 +1,134 @@
+package io.github.cleverton.heusner.metrics;
+
+import com.google.gson.stream.JsonWriter;
+import io.github.cleverton.heusner.accessor.AccessorStrategy;
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.plan.SelectionPlanCache;
+import io.github.cleverton.heusner.projection.ProjectionEngine;
+import io.github.cleverton.heusner.query.RestQlQuery;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryRestQlMetricsTest {
+
+    @Test
+    void when_fieldsSelectedTwice_then_planCacheMissAndHitReported() {
+
+        // Arrange
+        final var metrics = new InMemoryRestQlMetrics();
+        final var query = RestQlQuery.builder().metrics(metrics).build();
+
+        // Act
+        query.select("id,text");
+        query.select("text", "id");
+
+        // Assert
+        assertThat(metrics.getPlanCacheMisses()).isEqualTo(1);
+        assertThat(metrics.getPlanCacheHits()).isEqualTo(1);
+        assertThat(metrics.getPlanNanos().count()).isEqualTo(2);
+    }
+
+    @Test
+    void when_entityProjected_then_visitedNodesAndOutputFieldsReported() {
+
+        // Arrange
+        final var metrics = new InMemoryRestQlMetrics();
+        final var query = RestQlQuery.builder()
+                .engine(ProjectionEngine.COMPILED)
+                .metrics(metrics)
+                .build();
+        final var post = Instancio.create(Post.class);
+        final int comments = post.getComments().size();
+
+        // Act
+        query.select("id", "comments.id").from(post);
+        query.select("id", "comments.id").from(post);
+
+        // Assert
+        assertThat(metrics.getProjectionNanos().count()).isEqualTo(2);
+        assertThat(metrics.getObjectsVisited().max()).isEqualTo(1 + comments);
+        assertThat(metrics.getElementsVisited().max()).isEqualTo(comments);
+        assertThat(metrics.getOutputFields().max()).isEqualTo(2 + comments);
+        assertThat(metrics.getBindingCacheMisses()).isEqualTo(2);
+        assertThat(metrics.getBindingCacheHits()).isEqualTo(2);
+    }
+
+    @Test
+    void when_collectionStreamed_then_bindingResolvedOncePerItemClass() throws IOException {
+
+        // Arrange
+        final var metrics = new InMemoryRestQlMetrics();
+        final var query = RestQlQuery.builder().metrics(metrics).build();
+        final var post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(100).create());
+
+        // Act
+        query.select("comments.id", "comments.text").writeTo(post, new JsonWriter(new StringWriter()));
+
+        // Assert
+        assertThat(metrics.getMetadataCacheHits() + metrics.getMetadataCacheMisses()).isEqualTo(2);
+        assertThat(metrics.getBindingCacheMisses()).isZero();
+        assertThat(metrics.getObjectsVisited().max()).isEqualTo(101);
+    }
+
+    @Test
+    void when_compiledEnginesUseDifferentAccessorStrategies_then_bindingsCachedPerStrategy() {
+
+        // Arrange
+        final var metrics = new InMemoryRestQlMetrics();
+        final var planCache = new SelectionPlanCache();
+        final var varHandleQuery = RestQlQuery.builder()
+                .engine(ProjectionEngine.COMPILED)
+                .accessorStrategy(AccessorStrategy.VAR_HANDLE)
+                .planCache(planCache)
+                .metrics(metrics)
+                .build();
+        final var methodHandleQuery = RestQlQuery.builder()
+                .engine(ProjectionEngine.COMPILED)
+                .accessorStrategy(AccessorStrategy.METHOD_HANDLE)
+                .planCache(planCache)
+                .metrics(metrics)
+                .build();
+        final var post = Instancio.create(Post.class);
+
+        // Act
+        final var varHandlePost = varHandleQuery.select("id", "comments.id").from(post);
+        final var methodHandlePost = methodHandleQuery.select("id", "comments.id").from(post);
+        varHandleQuery.select("id", "comments.id").from(post);
+
+        // Assert
+        assertThat(methodHandlePost).isEqualTo(varHandlePost);
+        assertThat(metrics.getBindingCacheMisses()).isEqualTo(4);
+        assertThat(metrics.getBindingCacheHits()).isEqualTo(2);
+        assertThat(RestQlQuery.builder().engine(ProjectionEngine.COMPILED).build().getAccessorStrategy())
+                .isEqualTo(AccessorStrategy.GENERATED);
+        assertThat(RestQlQuery.builder().build().getAccessorStrategy()).isEqualTo(AccessorStrategy.REFLECTION);
+    }
+
+    @Test
+    void when_classProjectedTwice_then_metadataCacheMissAndHitReported() {
+
+        // Arrange
+        final var metrics = new InMemoryRestQlMetrics();
+        final var query = RestQlQuery.builder().metrics(metrics).build();
+        final var note = new Note("text");
+
+        // Act
+        query.select("text").from(note);
+        query.select("text").from(note);
+
+        // Assert
+        assertThat(metrics.getMetadataCacheMisses()).isEqualTo(1);
+        assertThat(metrics.getMetadataCacheHits()).isEqualTo(1);
+        assertThat(metrics.getBindingCacheHits() + metrics.getBindingCacheMisses()).isZero();
+    }
+
+    private record Note(String text) {
+    }
+}
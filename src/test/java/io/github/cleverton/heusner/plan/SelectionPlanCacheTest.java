@@ -0,0 +1,111 @@
+package io.github.cleverton.heusner.plan;
+
+import io.github.cleverton.heusner.exception.NoFieldsInformedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SelectionPlanCacheTest {
+
+    @Test
+    void when_equivalentFieldsRequested_then_samePlanReturned() {
+
+        // Arrange
+        final var planCache = new SelectionPlanCache();
+        final double initialHitRatio = planCache.stats().hitRatio();
+
+        // Act
+        final var plan = planCache.get("id,author.id");
+        final var reorderedPlan = planCache.get("author.id, id");
+        final var duplicatedPlan = planCache.get(" id ", "", "author.id", "id");
+        final var listPlan = planCache.get(List.of("author.id", "id"));
+
+        // Assert
+        assertThat(reorderedPlan).isSameAs(plan);
+        assertThat(duplicatedPlan).isSameAs(plan);
+        assertThat(listPlan).isSameAs(plan);
+        assertThat(planCache.stats()).isEqualTo(new SelectionPlanCacheStats(3, 1, 0, 1, 256));
+        assertThat(planCache.stats().hitRatio()).isEqualTo(0.75);
+        assertThat(initialHitRatio).isZero();
+    }
+
+    @Test
+    void when_maximumSizeExceeded_then_leastRecentlyUsedPlanEvicted() {
+
+        // Arrange
+        final var planCache = new SelectionPlanCache(2);
+        final var idPlan = planCache.get("id");
+        final var textPlan = planCache.get("text");
+
+        // Act
+        planCache.get("id");
+        planCache.get("author.id");
+
+        // Assert
+        assertThat(planCache.get("id")).isSameAs(idPlan);
+        assertThat(planCache.get("text")).isNotSameAs(textPlan);
+        assertThat(planCache.stats().evictionCount()).isEqualTo(2);
+        assertThat(planCache.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    void when_plansRequestedConcurrently_then_statsConsistentAndSizeBounded() throws Exception {
+
+        // Arrange
+        final var planCache = new SelectionPlanCache(8);
+        final Callable<Void> requests = () -> {
+            for (int i = 0; i < 1000; i++) {
+                planCache.get("id,author.id" + i % 16);
+            }
+            return null;
+        };
+
+        // Act
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            for (final Future<Void> future : executor.invokeAll(Collections.nCopies(4, requests))) {
+                future.get();
+            }
+        }
+
+        // Assert
+        assertThat(planCache.stats().requestCount()).isEqualTo(4000);
+        assertThat(planCache.stats().size()).isLessThanOrEqualTo(8);
+        assertThat(planCache.stats().evictionCount()).isPositive();
+    }
+
+    @Test
+    void when_onlyBlankFieldsRequested_then_noFieldsInformedExceptionReturned() {
+
+        // Arrange
+        final var planCache = new SelectionPlanCache();
+
+        // Act
+        final var noFieldsInformedException = assertThrows(NoFieldsInformedException.class, () ->
+                planCache.get("  ")
+        );
+
+        // Assert
+        assertThat(noFieldsInformedException.getMessage()).isEqualTo("You must inform at least one field.");
+        assertThat(planCache.stats().size()).isZero();
+    }
+
+    @Test
+    void when_nonPositiveMaximumSizeInformed_then_illegalArgumentExceptionReturned() {
+
+        // Act
+        final var illegalArgumentException = assertThrows(IllegalArgumentException.class, () ->
+                new SelectionPlanCache(0)
+        );
+
+        // Assert
+        assertThat(illegalArgumentException.getMessage())
+                .isEqualTo("The maximum size of the plan cache must be positive.");
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.cleverton.heusner.plan;
+
+import io.github.cleverton.heusner.exception.InvalidFieldException;
+import io.github.cleverton.heusner.exception.NoFieldsInformedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SelectionPlanTest {
+
+    @Test
+    void when_fieldsWithCommonPrefixCompiled_then_prefixShared() {
+
+        // Act
+        final var plan = SelectionPlan.compile("id, author.id, author.pet.age, author.pet.name");
+
+        // Assert
+        final var author = plan.getRoot().getChild("author");
+        assertThat(plan.getRoot().getChildren()).extracting(SelectionNode::getName).containsExactly("id", "author");
+        assertThat(author.getChildren()).extracting(SelectionNode::getName).containsExactly("id", "pet");
+        assertThat(author.getChild("pet").getChildren()).extracting(SelectionNode::getName)
+                .containsExactly("age", "name");
+    }
+
+    @Test
+    void when_duplicatedFieldsCompiled_then_pathsDeduplicated() {
+
+        // Act
+        final var plan = SelectionPlan.compile("id", "author.id", " id ", "author.id");
+
+        // Assert
+        assertThat(plan.getPaths()).containsExactly(List.of("id"), List.of("author", "id"));
+    }
+
+    @Test
+    void when_fieldAndItsSubfieldCompiled_then_subfieldDiscarded() {
+
+        // Act
+        final var plan = SelectionPlan.compile(List.of("author.id", "author", "author.pet.age"));
+
+        // Assert
+        assertThat(plan.getPaths()).containsExactly(List.of("author"));
+        assertThat(plan.getRoot().getChild("author").isLeaf()).isTrue();
+    }
+
+    @Test
+    void when_onlyBlankFieldsCompiled_then_noFieldsInformedExceptionReturned() {
+
+        // Act
+        final var noFieldsInformedException = assertThrows(NoFieldsInformedException.class, () ->
+                SelectionPlan.compile(" , , ")
+        );
+
+        // Assert
+        assertThat(noFieldsInformedException.getMessage()).isEqualTo("You must inform at least one field.");
+    }
+
+    @Test
+    void when_slicedFieldsCompiled_then_slicesKeptInNodesAndPaths() {
+
+        // Act
+        final var plan = SelectionPlan.compile("comments[0:20].id", "comments[0:20].text", "tags[-5:]", "author.books[3]");
+
+        // Assert
+        assertThat(plan.getRoot().getChild("comments").getSlice()).isEqualTo(new Slice(0, 20));
+        assertThat(plan.getRoot().getChild("tags").getSlice()).isEqualTo(new Slice(-5, null));
+        assertThat(plan.getRoot().getChild("author").getChild("books").getSlice()).isEqualTo(new Slice(3, 4));
+        assertThat(plan.getPaths()).containsExactly(
+                List.of("comments[0:20]", "id"),
+                List.of("comments[0:20]", "text"),
+                List.of("tags[-5:]"),
+                List.of("author", "books[3:4]")
+        );
+    }
+
+    @Test
+    void when_sliceResolved_then_boundsClampedToCollectionSize() {
+
+        // Arrange
+        final var items = List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        // Act
+        final var middle = new Slice(2, 5).select(items);
+        final var lastThree = new Slice(-3, null).select(items);
+        final var upToEighthFromEnd = new Slice(null, -8).select(items);
+        final var beyondSize = new Slice(8, 100).select(items);
+        final var reversed = new Slice(5, 2).select(items);
+        final var lastOfLinkedList = new Slice(-1, null).select(new LinkedList<>(items));
+
+        // Assert
+        assertThat(middle).isEqualTo(List.of(2, 3, 4));
+        assertThat(lastThree).isEqualTo(List.of(7, 8, 9));
+        assertThat(upToEighthFromEnd).isEqualTo(List.of(0, 1));
+        assertThat(beyondSize).isEqualTo(List.of(8, 9));
+        assertThat(reversed).isEmpty();
+        assertThat(lastOfLinkedList).isEqualTo(List.of(9));
+    }
+
+    @Test
+    void when_fieldSelectedWithAndWithoutSlice_then_unslicedFieldKept() {
+
+        // Act
+        final var wholePlan = SelectionPlan.compile("comments", "comments[0:1].id");
+        final var subfieldsPlan = SelectionPlan.compile("comments[0:1].id", "comments.text");
+
+        // Assert
+        final var wholeComments = wholePlan.getRoot().getChild("comments");
+        final var subfieldComments = subfieldsPlan.getRoot().getChild("comments");
+        assertThat(wholeComments.getSlice()).isNull();
+        assertThat(wholeComments.isLeaf()).isTrue();
+        assertThat(subfieldComments.getSlice()).isNull();
+        assertThat(subfieldComments.getChildren()).extracting(SelectionNode::getName).containsExactly("id", "text");
+    }
+
+    @Test
+    void when_fieldSelectedWithDifferentSlices_then_invalidFieldExceptionReturned() {
+
+        // Act
+        final var invalidFieldException = assertThrows(InvalidFieldException.class, () ->
+                SelectionPlan.compile("comments[0:20].id", "comments[1:3].text")
+        );
+
+        // Assert
+        assertThat(invalidFieldException.getMessage()).isEqualTo("Field 'comments' is selected with different slices.");
+    }
+
+    @Test
+    void when_malformedSliceCompiled_then_invalidFieldExceptionReturned() {
+
+        // Act
+        final var invalidFieldException = assertThrows(InvalidFieldException.class, () ->
+                SelectionPlan.compile("comments[a:b].id")
+        );
+
+        // Assert
+        assertThat(invalidFieldException.getMessage()).isEqualTo("Field 'comments[a:b].id' is invalid.");
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.cleverton.heusner.projection;
+
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.query.RestQlQuery;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShapedMapTest {
+
+    @Test
+    void when_siblingsProjectedInCompactMode_then_keyArrayShared() {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(3).create());
+        final var query = RestQlQuery.builder().mode(ProjectionMode.COMPACT).build();
+
+        // Act
+        final var comments = (List<?>) query.select("comments.id", "comments.text").from(post).get("comments");
+        final var otherComments = (List<?>) query.select("comments.text", "comments.id").from(post).get("comments");
+
+        // Assert
+        final String[] keys = ((ShapedMap) comments.get(0)).keys();
+        assertThat(keys).containsExactly("id", "text");
+        assertThat(comments).allSatisfy(comment -> assertThat(((ShapedMap) comment).keys()).isSameAs(keys));
+        assertThat(((ShapedMap) otherComments.get(2)).keys()).isSameAs(keys);
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.cleverton.heusner.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.sink.ByteBufferPool;
+import io.github.cleverton.heusner.sink.ByteBufferProjectionSink;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ByteBufferRestQlQueryTest extends RestQlQueryTestConfiguration {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RestQlQuery restQlQuery = new RestQlQuery();
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(6).create());
+        post.getComments().forEach(comment -> comment.getReplies().add(Instancio.create(Comment.class)));
+    }
+
+    @Test
+    void when_fieldsWrittenToByteBuffers_then_jsonMatchesSelectedFields() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(
+                ID,
+                TEXT,
+                DATE_PUBLISHED,
+                AUTHOR_DOT_NICK_NAME,
+                AUTHOR_DOT_PET_DOT_AGE,
+                AUTHOR_DOT_BOOKS,
+                COMMENTS_DOT_REPLIES
+        );
+        final var output = new ByteArrayOutputStream();
+
+        // Act
+        try (var sink = new ByteBufferProjectionSink(new ByteBufferPool())) {
+            selection.writeTo(post, sink);
+            sink.writeTo(Channels.newChannel(output));
+        }
+
+        // Assert
+        assertThat(objectMapper.readTree(output.toByteArray()))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(selection.from(post))));
+    }
+
+    @Test
+    void when_jsonLargerThanBuffer_then_buffersGatheredIntoChannel(@TempDir final Path directory)
+            throws IOException {
+
+        // Arrange
+        post.setText("Café \"quoted\"\n\\ \u0001 😀");
+        final var selection = restQlQuery.select(ID, TEXT, COMMENTS_DOT_TEXT, COMMENTS_DOT_AUTHOR_DOT_NAME);
+        final Path file = directory.resolve("post.json");
+        final long written;
+
+        // Act
+        try (var sink = new ByteBufferProjectionSink(new ByteBufferPool(16, 4));
+             var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            selection.writeTo(post, sink);
+            assertThat(sink.buffers()).hasSizeGreaterThan(1);
+            written = sink.writeTo(channel);
+        }
+
+        // Assert
+        assertThat(written).isEqualTo(Files.size(file));
+        assertThat(objectMapper.readTree(file.toFile()))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(selection.from(post))));
+    }
+
+    @Test
+    void when_valuesWrittenToSinkDirectly_then_digitsTextAndObjectsEncoded() throws IOException {
+
+        // Arrange
+        final var output = new ByteArrayOutputStream();
+        final var expectedJson = Map.of(
+                "min", Long.MIN_VALUE,
+                "negative", -42,
+                "zero", 0,
+                "max", Long.MAX_VALUE,
+                "naïve ✓", "Café 😀 \u0001",
+                "objects", List.of(Map.of("k", List.of(1, 2)), Map.of("k", List.of()))
+        );
+
+        // Act
+        try (var sink = new ByteBufferProjectionSink(new ByteBufferPool(8, 4))) {
+            sink.startObject();
+            sink.fieldName("min");
+            sink.longValue(Long.MIN_VALUE);
+            sink.fieldName("negative");
+            sink.intValue(-42);
+            sink.fieldName("zero");
+            sink.intValue(0);
+            sink.fieldName("max");
+            sink.value(Long.MAX_VALUE);
+            sink.fieldName("naïve ✓");
+            sink.value("Café 😀 \u0001");
+            sink.fieldName("objects");
+            sink.startArray(2);
+            sink.value(Map.of("k", List.of(1, 2)));
+            sink.value(Map.of("k", List.of()));
+            sink.endArray();
+            sink.endObject();
+            sink.writeTo(Channels.newChannel(output));
+        }
+
+        // Assert
+        assertThat(objectMapper.readTree(output.toByteArray()))
+                .isEqualTo(objectMapper.valueToTree(expectedJson));
+    }
+
+    @Test
+    void when_sinkClosed_then_buffersReturnedToPool() throws IOException {
+
+        // Arrange
+        final var pool = new ByteBufferPool(64, 2);
+        final var selection = restQlQuery.select(ID, COMMENTS_DOT_TEXT);
+        final var sink = new ByteBufferProjectionSink(pool);
+        selection.writeTo(post, sink);
+
+        // Act
+        sink.close();
+
+        // Assert
+        assertThat(pool.size()).isEqualTo(2);
+        assertThat(sink.size()).isZero();
+        assertThat(pool.acquire().isDirect()).isTrue();
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void when_nonPositiveBufferSizeInformed_then_illegalArgumentExceptionReturned() {
+
+        // Act
+        final var illegalArgumentException = assertThrows(IllegalArgumentException.class, () ->
+                new ByteBufferPool(0, 1)
+        );
+
+        // Assert
+        assertThat(illegalArgumentException.getMessage()).isEqualTo("The buffer size must be positive.");
+    }
+}
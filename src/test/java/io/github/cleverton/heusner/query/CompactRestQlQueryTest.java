@@ -0,0 +1,74 @@
+package io.github.cleverton.heusner.query;
+
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.projection.ProjectionMode;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CompactRestQlQueryTest extends RestQlQueryTestTest {
+
+    @Override
+    protected RestQlQuery createRestQlQuery() {
+        return RestQlQuery.builder().mode(ProjectionMode.COMPACT).build();
+    }
+
+    @Test
+    void when_entityChangedAfterSelection_then_selectedFieldsUnchanged() {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+        final var expectedComments = post.getComments().stream()
+                .map(comment -> Map.of(ID, comment.getId()))
+                .toList();
+
+        // Act
+        final var selectedFields = createRestQlQuery().select(COMMENTS_DOT_ID).from(post);
+        post.getComments().clear();
+
+        // Assert
+        assertThat(selectedFields.get(COMMENTS)).isEqualTo(expectedComments);
+    }
+
+    @Test
+    void when_sourceListChangedAfterSlicedSelection_then_selectedSliceUnchanged() {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(3).create());
+        final var expectedComments = List.copyOf(post.getComments().subList(0, 2));
+
+        // Act
+        final var compactFields = createRestQlQuery().select(COMMENTS + "[0:2]").from(post);
+        final var eagerFields = new RestQlQuery().select(COMMENTS + "[0:2]").from(post);
+        post.getComments().add(0, Instancio.create(Comment.class));
+
+        // Assert
+        assertThat(compactFields.get(COMMENTS)).isEqualTo(expectedComments);
+        assertThat(eagerFields.get(COMMENTS)).isEqualTo(expectedComments);
+    }
+
+    @Test
+    void when_compactProjected_then_eagerFieldsReturnedInReadOnlyMaps() {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+        final String[] fields = {ID, AUTHOR_DOT_NICK_NAME, AUTHOR_DOT_PET_DOT_AGE, COMMENTS_DOT_REPLIES_DOT_TEXT};
+
+        // Act
+        final var compactFields = createRestQlQuery().select(fields).from(post);
+        final var eagerFields = new RestQlQuery().select(fields).from(post);
+
+        // Assert
+        assertThat(compactFields).isEqualTo(eagerFields);
+        assertThat(compactFields.hashCode()).isEqualTo(eagerFields.hashCode());
+        assertThrows(UnsupportedOperationException.class, () -> compactFields.put(TEXT, "text"));
+        assertThrows(UnsupportedOperationException.class, () -> compactFields.remove(ID));
+    }
+}
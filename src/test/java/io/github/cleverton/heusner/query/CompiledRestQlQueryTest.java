@@ -0,0 +1,41 @@
+package io.github.cleverton.heusner.query;
+
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.metrics.InMemoryRestQlMetrics;
+import io.github.cleverton.heusner.projection.ProjectionEngine;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledRestQlQueryTest extends RestQlQueryTestTest {
+
+    @Override
+    protected RestQlQuery createRestQlQuery() {
+        return RestQlQuery.builder().engine(ProjectionEngine.COMPILED).build();
+    }
+
+    @Test
+    void when_selectionProjectedAgain_then_cachedBindingsReusedAndReflectiveFieldsReturned() {
+
+        // Arrange
+        final var metrics = new InMemoryRestQlMetrics();
+        final var query = RestQlQuery.builder().engine(ProjectionEngine.COMPILED).metrics(metrics).build();
+        final var post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(50).create());
+        final String[] fields = {ID, AUTHOR_DOT_NICK_NAME, COMMENTS + "[1:40]" + DOT + AUTHOR + DOT + ID};
+        final var expectedFields = new RestQlQuery().select(fields).from(post);
+        query.select(fields).from(post);
+        final long bindingsBuilt = metrics.getBindingCacheMisses();
+
+        // Act
+        final var selectedFields = query.select(fields).from(post);
+
+        // Assert
+        assertThat(selectedFields).isEqualTo(expectedFields);
+        assertThat(bindingsBuilt).isEqualTo(4);
+        assertThat(metrics.getBindingCacheMisses()).isEqualTo(bindingsBuilt);
+        assertThat(metrics.getMetadataCacheHits() + metrics.getMetadataCacheMisses()).isEqualTo(bindingsBuilt);
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.cleverton.heusner.query;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.cleverton.heusner.exception.FieldNotFoundException;
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.jackson.RestQlModule;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JacksonModuleRestQlQueryTest extends RestQlQueryTestConfiguration {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new RestQlModule());
+    private final RestQlQuery restQlQuery = new RestQlQuery();
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(6).create());
+        post.getComments().forEach(comment -> comment.getReplies().add(Instancio.create(Comment.class)));
+    }
+
+    @Test
+    void when_entitySerializedWithSelection_then_sameFieldsAsProjectionReturned() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(
+                ID,
+                DATE_PUBLISHED,
+                AUTHOR_DOT_NICK_NAME,
+                AUTHOR_DOT_PET_DOT_AGE,
+                AUTHOR_DOT_BOOKS,
+                COMMENTS_DOT_REPLIES_DOT_TEXT
+        );
+
+        // Act
+        final String json = selection.writer(objectMapper).writeValueAsString(post);
+
+        // Assert
+        assertThat(objectMapper.readTree(json))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(selection.from(post))));
+    }
+
+    @Test
+    void when_fieldSelectedByJavaName_then_serializedNameWritten() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(AUTHOR + DOT + "nickName");
+
+        // Act
+        final String json = selection.writer(objectMapper).writeValueAsString(post);
+
+        // Assert
+        assertThat(objectMapper.readTree(json).get(AUTHOR).get(NICK_NAME).asText())
+                .isEqualTo(post.getAuthor().getNickName());
+    }
+
+    @Test
+    void when_entitySerializedWithSlices_then_onlyRequestedItemsWritten() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(COMMENTS + "[1:3]" + DOT + ID, AUTHOR + DOT + PHONE_NUMBERS + "[-2:]");
+
+        // Act
+        final String json = selection.writer(objectMapper).writeValueAsString(post);
+
+        // Assert
+        assertThat(objectMapper.readTree(json))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(selection.from(post))));
+    }
+
+    @Test
+    void when_slicedFieldHasCustomSerializer_then_serializerApplied() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(BOOKS + "[0:2]");
+
+        // Act
+        final String json = selection.writer(objectMapper).writeValueAsString(new Shelf());
+
+        // Assert
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree("{\"books\": [\"A\", \"B\"]}"));
+    }
+
+    @Test
+    void when_nonExistingFieldSerialized_then_fieldNotFoundExceptionReturned() {
+
+        // Arrange
+        final var selection = restQlQuery.select(ID, AUTHOR_DOT_NON_EXISTING_FIELD_1);
+
+        // Act
+        final var jsonMappingException = assertThrows(JsonMappingException.class, () ->
+                selection.writer(objectMapper).writeValueAsString(post)
+        );
+
+        // Assert
+        assertThat(jsonMappingException.getCause())
+                .isInstanceOf(FieldNotFoundException.class)
+                .hasMessage(getFieldNotFoundMessage());
+    }
+
+    @Test
+    void when_listSerializedWithSelection_then_eachElementProjected() throws IOException {
+
+        // Arrange
+        final List<Post> posts = Instancio.ofList(Post.class).size(3).create();
+        final var selection = restQlQuery.select(ID, COMMENTS_DOT_AUTHOR_DOT_ID);
+
+        // Act
+        final String json = selection.writer(objectMapper).writeValueAsString(posts);
+
+        // Assert
+        assertThat(objectMapper.readTree(json))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(selection.fromAll(posts))));
+    }
+
+    @Test
+    void when_entitySerializedWithoutSelection_then_allFieldsWritten() throws IOException {
+
+        // Act
+        final String json = objectMapper.writeValueAsString(post);
+
+        // Assert
+        assertThat(objectMapper.readTree(json)).isEqualTo(new ObjectMapper().readTree(new ObjectMapper().writeValueAsString(post)));
+    }
+
+    @Test
+    void when_moduleNotRegistered_then_illegalStateExceptionReturned() {
+
+        // Arrange
+        final var selection = restQlQuery.select(ID);
+
+        // Act
+        final var illegalStateException = assertThrows(IllegalStateException.class, () ->
+                selection.writer(new ObjectMapper())
+        );
+
+        // Assert
+        assertThat(illegalStateException.getMessage())
+                .isEqualTo("The RestQlModule must be registered in the ObjectMapper.");
+    }
+
+    public static class Shelf {
+
+        @JsonSerialize(contentUsing = UpperCaseSerializer.class)
+        public List<String> books = List.of("a", "b", "c");
+    }
+
+    public static class UpperCaseSerializer extends StdSerializer<String> {
+
+        public UpperCaseSerializer() {
+            super(String.class);
+        }
+
+        @Override
+        public void serialize(final String value, final JsonGenerator gen, final SerializerProvider provider)
+                throws IOException {
+            gen.writeString(value.toUpperCase(Locale.ROOT));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.cleverton.heusner.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Post;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonFilterRestQlQueryTest extends RestQlQueryTestConfiguration {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RestQlQuery restQlQuery = new RestQlQuery();
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(6).create());
+        post.getComments().forEach(comment -> comment.getReplies().add(Instancio.create(Comment.class)));
+    }
+
+    @Test
+    void when_serializedEntityFiltered_then_sameFieldsAsProjectionReturned() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(ID, TEXT, AUTHOR_DOT_NICK_NAME, COMMENTS_DOT_REPLIES_DOT_TEXT);
+        final byte[] json = objectMapper.writeValueAsBytes(post);
+
+        // Act
+        final byte[] filteredJson = selection.filter(json);
+
+        // Assert
+        assertThat(objectMapper.readTree(filteredJson))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(selection.from(post))));
+    }
+
+    @Test
+    void when_serializedEntityFilteredWithSlices_then_onlyRequestedItemsReturned() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(COMMENTS + "[1:3]" + DOT + ID, AUTHOR + DOT + PHONE_NUMBERS + "[-2:]");
+        final byte[] json = objectMapper.writeValueAsBytes(post);
+
+        // Act
+        final byte[] filteredJson = selection.filter(json);
+
+        // Assert
+        assertThat(objectMapper.readTree(filteredJson))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(selection.from(post))));
+        assertThat(objectMapper.readTree(filteredJson).get(COMMENTS)).hasSize(2);
+    }
+
+    @Test
+    void when_serializedEntityFilteredWithNegativeEnd_then_trailingItemsDropped() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(COMMENTS + "[1:-2]" + DOT + ID, AUTHOR + DOT + PHONE_NUMBERS + "[:-1]");
+        final byte[] json = objectMapper.writeValueAsBytes(post);
+
+        // Act
+        final byte[] filteredJson = selection.filter(json);
+
+        // Assert
+        assertThat(objectMapper.readTree(filteredJson))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(selection.from(post))));
+        assertThat(objectMapper.readTree(filteredJson).get(COMMENTS)).hasSize(3);
+    }
+
+    @Test
+    void when_streamsFiltered_then_streamsLeftOpen() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(ID);
+        final var inputClosed = new AtomicBoolean();
+        final var outputClosed = new AtomicBoolean();
+        final var input = new ByteArrayInputStream(objectMapper.writeValueAsBytes(post)) {
+
+            @Override
+            public void close() {
+                inputClosed.set(true);
+            }
+        };
+        final var output = new ByteArrayOutputStream() {
+
+            @Override
+            public void close() {
+                outputClosed.set(true);
+            }
+        };
+
+        // Act
+        selection.filter(input, output);
+
+        // Assert
+        assertThat(inputClosed).isFalse();
+        assertThat(outputClosed).isFalse();
+        assertThat(objectMapper.readTree(output.toByteArray()).get(ID).asLong()).isEqualTo(post.getId());
+    }
+
+    @Test
+    void when_serializedListFiltered_then_eachElementFiltered() throws IOException {
+
+        // Arrange
+        final List<Post> posts = Instancio.ofList(Post.class).size(3).create();
+        final var selection = restQlQuery.select(ID, COMMENTS + "[-1]" + DOT + TEXT);
+
+        // Act
+        final byte[] filteredJson = selection.filter(objectMapper.writeValueAsBytes(posts));
+
+        // Assert
+        assertThat(objectMapper.readTree(filteredJson))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(selection.fromAll(posts))));
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.cleverton.heusner.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.cleverton.heusner.exception.FieldNotFoundException;
+import io.github.cleverton.heusner.exception.QueryLimitExceededException;
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.projection.ProjectionMode;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LazyRestQlQueryTest extends RestQlQueryTestTest {
+
+    @Override
+    protected RestQlQuery createRestQlQuery() {
+        return RestQlQuery.builder().mode(ProjectionMode.LAZY).build();
+    }
+
+    @Test
+    @Override
+    void when_nonExistingSubfieldsSelected_then_fieldNotFoundExceptionReturned() {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+        final var selectedFields = createRestQlQuery().select(ID, AUTHOR_DOT_NON_EXISTING_FIELD_1).from(post);
+
+        // Act
+        final var fieldNotFoundException = assertThrows(FieldNotFoundException.class, () ->
+                selectedFields.get(AUTHOR)
+        );
+
+        // Assert
+        assertThat(selectedFields.get(ID)).isEqualTo(post.getId());
+        assertThat(fieldNotFoundException.getMessage()).isEqualTo(getFieldNotFoundMessage());
+    }
+
+    @Test
+    void when_entityChangedAfterSelection_then_viewReflectsChange() {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+        final var selectedFields = createRestQlQuery().select(TEXT, COMMENTS_DOT_ID).from(post);
+
+        // Act
+        post.setText("edited");
+        post.getComments().clear();
+
+        // Assert
+        assertThat(selectedFields).isEqualTo(Map.of(TEXT, "edited", COMMENTS, List.of()));
+    }
+
+    @Test
+    void when_viewModified_then_unsupportedOperationExceptionReturned() {
+
+        // Arrange
+        final var selectedFields = createRestQlQuery().select(ID).from(Instancio.create(Post.class));
+
+        // Act
+        assertThrows(UnsupportedOperationException.class, () -> selectedFields.put(TEXT, "text"));
+
+        // Assert
+        assertThat(selectedFields).containsOnlyKeys(ID);
+    }
+
+    @Test
+    void when_viewReadRepeatedly_then_nestedViewsReusedAndNodesChargedOnce() throws Exception {
+
+        // Arrange
+        final var objectMapper = new ObjectMapper();
+        final var post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(5).create());
+        final var query = RestQlQuery.builder().mode(ProjectionMode.LAZY).maxVisitedNodes(20).build();
+        final var selectedFields = query.select(COMMENTS_DOT_ID).from(post);
+
+        // Act
+        final var comments = selectedFields.get(COMMENTS);
+        for (int i = 0; i < 5; i++) {
+            selectedFields.get(COMMENTS);
+        }
+        final var firstJson = objectMapper.writeValueAsString(selectedFields);
+        final var secondJson = objectMapper.writeValueAsString(selectedFields);
+
+        // Assert
+        assertThat(selectedFields.get(COMMENTS)).isSameAs(comments);
+        assertThat(((List<?>) comments).get(0)).isSameAs(((List<?>) comments).get(0));
+        assertThat(secondJson).isEqualTo(firstJson);
+    }
+
+    @Test
+    void when_onlyScalarFieldRead_then_unreadCollectionNotCharged() {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(1000).create());
+        final var query = RestQlQuery.builder().mode(ProjectionMode.LAZY).maxVisitedNodes(5).build();
+        final var selectedFields = query.select(ID, COMMENTS_DOT_ID).from(post);
+
+        // Act
+        final var id = selectedFields.get(ID);
+        final var queryLimitExceededException = assertThrows(QueryLimitExceededException.class, () ->
+                selectedFields.get(COMMENTS)
+        );
+
+        // Assert
+        assertThat(id).isEqualTo(post.getId());
+        assertThat(queryLimitExceededException.getMessage())
+                .isEqualTo("The query exceeded the maximum of 5 visited nodes.");
+    }
+}
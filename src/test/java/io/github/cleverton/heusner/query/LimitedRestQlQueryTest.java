@@ -0,0 +1,139 @@
+package io.github.cleverton.heusner.query;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.stream.JsonWriter;
+import io.github.cleverton.heusner.exception.QueryLimitExceededException;
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.plan.SelectionPlanCache;
+import io.github.cleverton.heusner.projection.ProjectionMode;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LimitedRestQlQueryTest extends RestQlQueryTestConfiguration {
+
+    @Test
+    void when_selectionDeeperThanMaximumDepth_then_queryLimitExceededExceptionReturned() {
+
+        // Arrange
+        final var query = RestQlQuery.builder().maxDepth(2).build();
+
+        // Act
+        final var queryLimitExceededException = assertThrows(QueryLimitExceededException.class, () ->
+                query.select(ID, AUTHOR_DOT_PET_DOT_NAME)
+        );
+
+        // Assert
+        assertThat(queryLimitExceededException.getMessage())
+                .isEqualTo("The selection exceeded the maximum depth of 2.");
+        assertThat(query.select(ID, COMMENTS_DOT_ID).getPlan().getDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void when_selectionWithMorePathsThanMaximum_then_queryLimitExceededExceptionReturned() {
+
+        // Arrange
+        final var query = RestQlQuery.builder().maxPaths(2).build();
+
+        // Act
+        final var queryLimitExceededException = assertThrows(QueryLimitExceededException.class, () ->
+                query.select(ID, TEXT, AUTHOR_DOT_ID)
+        );
+
+        // Assert
+        assertThat(queryLimitExceededException.getMessage())
+                .isEqualTo("The selection exceeded the maximum of 2 paths.");
+    }
+
+    @Test
+    void when_selectionsExceedLimits_then_rejectedBeforeReachingPlanCache() {
+
+        // Arrange
+        final var planCache = new SelectionPlanCache(4);
+        final var query = RestQlQuery.builder().planCache(planCache).maxDepth(2).maxPaths(1).build();
+        final var plan = query.select(ID).getPlan();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            final String field = NON_EXISTING_FIELD_1 + i;
+            final String deepField = AUTHOR_DOT_PET_DOT_NAME + i;
+            assertThrows(QueryLimitExceededException.class, () -> query.select(ID, field));
+            assertThrows(QueryLimitExceededException.class, () -> query.select(deepField));
+        }
+
+        // Assert
+        assertThat(planCache.stats().evictionCount()).isZero();
+        assertThat(planCache.stats().requestCount()).isEqualTo(1);
+        assertThat(query.select(ID).getPlan()).isSameAs(plan);
+        assertThat(query.select(AUTHOR, AUTHOR_DOT_PET_DOT_NAME).getPlan().getPaths()).hasSize(1);
+    }
+
+    @Test
+    void when_projectionVisitsMoreNodesThanMaximum_then_queryLimitExceededExceptionReturned() {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(10).create());
+        final var query = RestQlQuery.builder().maxVisitedNodes(20).build();
+        final var selection = query.select(ID, COMMENTS_DOT_ID);
+
+        // Act
+        final var queryLimitExceededException = assertThrows(QueryLimitExceededException.class, () ->
+                selection.from(post)
+        );
+        final var streamingLimitExceededException = assertThrows(QueryLimitExceededException.class, () ->
+                selection.writeTo(post, new JsonWriter(new StringWriter()))
+        );
+        final var explainLimitExceededException = assertThrows(QueryLimitExceededException.class, () ->
+                selection.explain(post)
+        );
+
+        // Assert
+        assertThat(queryLimitExceededException.getMessage())
+                .isEqualTo("The query exceeded the maximum of 20 visited nodes.");
+        assertThat(streamingLimitExceededException.getMessage())
+                .isEqualTo("The query exceeded the maximum of 20 visited nodes.");
+        assertThat(explainLimitExceededException.getMessage())
+                .isEqualTo("The query exceeded the maximum of 20 visited nodes.");
+        assertThat(query.select(ID, COMMENTS_DOT_ID).from(Instancio.create(Post.class))).containsKeys(ID, COMMENTS);
+    }
+
+    @Test
+    void when_lazyViewVisitsMoreNodesThanMaximum_then_queryLimitExceededExceptionReturned() {
+
+        // Arrange
+        final var post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(1000).create());
+        final var query = RestQlQuery.builder().mode(ProjectionMode.LAZY).maxVisitedNodes(10).build();
+        final var projectedPost = query.select(COMMENTS_DOT_ID).from(post);
+
+        // Act
+        final var jsonMappingException = assertThrows(JsonMappingException.class, () ->
+                new ObjectMapper().writeValueAsString(projectedPost)
+        );
+
+        // Assert
+        assertThat(jsonMappingException.getCause())
+                .isInstanceOf(QueryLimitExceededException.class)
+                .hasMessage("The query exceeded the maximum of 10 visited nodes.");
+    }
+
+    @Test
+    void when_nonPositiveLimitInformed_then_illegalArgumentExceptionReturned() {
+
+        // Act
+        final var illegalArgumentException = assertThrows(IllegalArgumentException.class, () ->
+                RestQlQuery.builder().maxVisitedNodes(0)
+        );
+
+        // Assert
+        assertThat(illegalArgumentException.getMessage())
+                .isEqualTo("The maximum number of visited nodes must be positive.");
+    }
+}
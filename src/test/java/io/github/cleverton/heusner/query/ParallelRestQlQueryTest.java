@@ -0,0 +1,117 @@
+package io.github.cleverton.heusner.query;
+
+import io.github.cleverton.heusner.exception.FieldNotFoundException;
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.metrics.InMemoryRestQlMetrics;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParallelRestQlQueryTest extends RestQlQueryTestTest {
+
+    private static final int LARGE_COLLECTION_SIZE = 5_000;
+    private static final int MINIMUM_CHUNK_SIZE = 64;
+
+    @Override
+    protected RestQlQuery createRestQlQuery() {
+        return RestQlQuery.builder().parallelThreshold(1).build();
+    }
+
+    @Test
+    void when_largeCollectionProjectedWithExecutor_then_itemsReturnedInOrder() {
+
+        // Arrange
+        final var postWithManyComments = Instancio.of(Post.class).create();
+        postWithManyComments.setComments(Instancio.ofList(Comment.class).size(LARGE_COLLECTION_SIZE).create());
+        final var expectedSelectedFields = Map.of(
+                COMMENTS, postWithManyComments.getComments().stream()
+                        .map(comment -> Map.of(ID, comment.getId(), AUTHOR, Map.of(NAME, comment.getAuthor().getName())))
+                        .toList()
+        );
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            final var query = RestQlQuery.builder()
+                    .parallelThreshold(100)
+                    .parallelExecutor(executor)
+                    .build();
+
+            // Act
+            final var actualSelectedFields = query.select(COMMENTS_DOT_ID, COMMENTS_DOT_AUTHOR_DOT_NAME)
+                    .from(postWithManyComments);
+
+            // Assert
+            assertThat(actualSelectedFields).containsExactlyInAnyOrderEntriesOf(expectedSelectedFields);
+        }
+    }
+
+    @Test
+    void when_nonExistingFieldSelectedInLargeCollection_then_fieldNotFoundExceptionReturned() {
+
+        // Arrange
+        final var postWithManyComments = Instancio.of(Post.class).create();
+        postWithManyComments.setComments(Instancio.ofList(Comment.class).size(LARGE_COLLECTION_SIZE).create());
+
+        // Act
+        final var fieldNotFoundException = assertThrows(FieldNotFoundException.class, () ->
+                createRestQlQuery().select(COMMENTS + DOT + NON_EXISTING_FIELD_1).from(postWithManyComments)
+        );
+
+        // Assert
+        assertThat(fieldNotFoundException.getMessage()).isEqualTo(getFieldNotFoundMessage());
+    }
+
+    @Test
+    void when_largeCollectionProjectedInParallel_then_bindingResolvedOncePerChunk() {
+
+        // Arrange
+        final var metrics = new InMemoryRestQlMetrics();
+        final var postWithManyComments = Instancio.of(Post.class).create();
+        postWithManyComments.setComments(Instancio.ofList(Comment.class).size(LARGE_COLLECTION_SIZE).create());
+
+        try (var pool = new ForkJoinPool(4)) {
+            final var query = RestQlQuery.builder()
+                    .parallelThreshold(100)
+                    .parallelExecutor(pool)
+                    .metrics(metrics)
+                    .build();
+
+            // Act
+            query.select(COMMENTS_DOT_ID).from(postWithManyComments);
+
+            // Assert
+            assertThat(metrics.getMetadataCacheHits() + metrics.getMetadataCacheMisses())
+                    .isLessThanOrEqualTo(1 + Math.ceilDiv(LARGE_COLLECTION_SIZE, MINIMUM_CHUNK_SIZE));
+            assertThat(metrics.getObjectsVisited().max()).isEqualTo(1 + LARGE_COLLECTION_SIZE);
+        }
+    }
+
+    @Test
+    void when_largeCollectionProjectedInParallel_then_sequentialOutputReturned() {
+
+        // Arrange
+        final var postWithManyComments = Instancio.of(Post.class).create();
+        postWithManyComments.setComments(Instancio.ofList(Comment.class).size(LARGE_COLLECTION_SIZE).create());
+        final String[] fields = {ID, COMMENTS_DOT_ID, COMMENTS_DOT_AUTHOR_DOT_NAME, COMMENTS_DOT_REPLIES_DOT_TEXT};
+        final var expectedSelectedFields = new RestQlQuery().select(fields).from(postWithManyComments);
+
+        try (var pool = new ForkJoinPool(4); var executor = Executors.newFixedThreadPool(4)) {
+            final var forkJoinQuery = RestQlQuery.builder().parallelThreshold(100).parallelExecutor(pool).build();
+            final var executorQuery = RestQlQuery.builder().parallelThreshold(100).parallelExecutor(executor).build();
+
+            // Act
+            final var forkJoinSelectedFields = forkJoinQuery.select(fields).from(postWithManyComments);
+            final var executorSelectedFields = executorQuery.select(fields).from(postWithManyComments);
+
+            // Assert
+            assertThat(forkJoinSelectedFields).isEqualTo(expectedSelectedFields);
+            assertThat(executorSelectedFields).isEqualTo(expectedSelectedFields);
+        }
+    }
+}
@@ -1,16 +1,33 @@
 package io.github.cleverton.heusner.query;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import io.github.cleverton.heusner.accessor.AccessorStrategy;
 import io.github.cleverton.heusner.exception.EntityNotInformedException;
 import io.github.cleverton.heusner.exception.FieldNotFoundException;
 import io.github.cleverton.heusner.exception.NoFieldsInformedException;
+import io.github.cleverton.heusner.fixture.Author;
 import io.github.cleverton.heusner.fixture.Comment;
 import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.plan.SelectionPlan;
+import io.github.cleverton.heusner.projection.FieldResolution;
 import org.instancio.Instancio;
 import org.instancio.Select;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,7 +43,11 @@ public class RestQlQueryTestTest extends RestQlQueryTestConfiguration {
         post = Instancio.create(Post.class);
         post.getComments().forEach(comment -> comment.getReplies().add(Instancio.create(Comment.class)));
 
-        restQlQuery = new RestQlQuery();
+        restQlQuery = createRestQlQuery();
+    }
+
+    protected RestQlQuery createRestQlQuery() {
+        return new RestQlQuery();
     }
 
     @Test
@@ -278,6 +299,186 @@ public class RestQlQueryTestTest extends RestQlQueryTestConfiguration {
         assertThat(actualSelectedFields).containsExactlyInAnyOrderEntriesOf(expectedSelectedFields);
     }
 
+    @Test
+    void when_compiledPlanSelected_then_fieldsReturnedForEveryEntity() {
+
+        // Arrange
+        final var plan = SelectionPlan.compile(ID + COMMA + AUTHOR_DOT_ID);
+        final var anotherPost = Instancio.create(Post.class);
+        final var expectedSelectedFields = Map.of(
+                ID, post.getId(),
+                AUTHOR, Map.of(ID, post.getAuthor().getId())
+        );
+        final var expectedAnotherSelectedFields = Map.of(
+                ID, anotherPost.getId(),
+                AUTHOR, Map.of(ID, anotherPost.getAuthor().getId())
+        );
+
+        // Act
+        final var actualSelectedFields = restQlQuery.select(plan).from(post);
+        final var actualAnotherSelectedFields = restQlQuery.select(plan).from(anotherPost);
+
+        // Assert
+        assertThat(actualSelectedFields).containsExactlyInAnyOrderEntriesOf(expectedSelectedFields);
+        assertThat(actualAnotherSelectedFields).containsExactlyInAnyOrderEntriesOf(expectedAnotherSelectedFields);
+    }
+
+    @Test
+    void when_fieldAndItsSubfieldSelected_then_wholeFieldReturned() {
+
+        // Arrange
+        final var expectedSelectedFields = Map.of(AUTHOR, post.getAuthor());
+
+        // Act
+        final var actualSelectedFields = restQlQuery.select(AUTHOR_DOT_ID, AUTHOR, AUTHOR_DOT_EMAIL).from(post);
+
+        // Assert
+        assertThat(actualSelectedFields).containsExactlyInAnyOrderEntriesOf(expectedSelectedFields);
+    }
+
+    @Test
+    void when_fieldsSelectedWithEveryAccessorStrategy_then_fieldsReturned() {
+
+        // Arrange
+        final var expectedSelectedFields = Map.of(
+                ID, post.getId(),
+                AUTHOR, Map.of(NICK_NAME, post.getAuthor().getNickName(), PET, Map.of(AGE, post.getAuthor().getPet().getAge())),
+                COMMENTS, post.getComments().stream().map(comment -> Map.of(ID, comment.getId())).toList()
+        );
+
+        for (final AccessorStrategy accessorStrategy : AccessorStrategy.values()) {
+            final var query = RestQlQuery.builder().accessorStrategy(accessorStrategy).build();
+
+            // Act
+            final var actualSelectedFields = query.select(
+                    ID,
+                    AUTHOR_DOT_NICK_NAME,
+                    AUTHOR_DOT_PET_DOT_AGE,
+                    COMMENTS_DOT_ID
+            ).from(post);
+
+            // Assert
+            assertThat(actualSelectedFields).as(accessorStrategy.name())
+                    .containsExactlyInAnyOrderEntriesOf(expectedSelectedFields);
+        }
+    }
+
+    @Test
+    void when_selectionsInterleaved_then_eachSelectionKeepsItsOwnFields() {
+
+        // Arrange
+        final var idSelection = restQlQuery.select(ID);
+        final var textSelection = restQlQuery.select(TEXT);
+
+        // Act
+        final var actualSelectedIds = idSelection.from(post);
+        final var actualSelectedTexts = textSelection.from(post);
+
+        // Assert
+        assertThat(actualSelectedIds).containsExactlyInAnyOrderEntriesOf(Map.of(ID, post.getId()));
+        assertThat(actualSelectedTexts).containsExactlyInAnyOrderEntriesOf(Map.of(TEXT, post.getText()));
+    }
+
+    @Test
+    void when_sharedQueryUsedConcurrently_then_eachRequestGetsItsOwnFields() throws Exception {
+
+        // Arrange
+        final var posts = Instancio.ofList(Post.class).size(64).create();
+
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            final List<Callable<Boolean>> requests = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                final var requestPost = posts.get(i % posts.size());
+                final boolean selectsId = i % 2 == 0;
+
+                requests.add(() -> {
+                    final var selectedFields = selectsId ?
+                            restQlQuery.select(ID).from(requestPost) :
+                            restQlQuery.select(AUTHOR_DOT_EMAIL).from(requestPost);
+
+                    return selectsId ?
+                            selectedFields.equals(Map.of(ID, requestPost.getId())) :
+                            selectedFields.equals(Map.of(AUTHOR, Map.of(EMAIL, requestPost.getAuthor().getEmail())));
+                });
+            }
+
+            // Act
+            final var responses = executor.invokeAll(requests);
+
+            // Assert
+            for (final Future<Boolean> response : responses) {
+                assertThat(response.get()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void when_fieldsWrittenToJsonGenerator_then_jsonMatchesSelectedFields() throws IOException {
+
+        // Arrange
+        final var objectMapper = new ObjectMapper();
+        final var selection = restQlQuery.select(
+                ID,
+                DATE_PUBLISHED,
+                AUTHOR_DOT_NICK_NAME,
+                AUTHOR_DOT_PET_DOT_AGE,
+                AUTHOR_DOT_BOOKS,
+                COMMENTS_DOT_TEXT,
+                COMMENTS_DOT_REPLIES_DOT_ID
+        );
+        final var expectedJson = objectMapper.readTree(objectMapper.writeValueAsString(selection.from(post)));
+        final var writer = new StringWriter();
+
+        // Act
+        try (var generator = objectMapper.createGenerator(writer)) {
+            selection.writeTo(post, generator);
+        }
+
+        // Assert
+        assertThat(objectMapper.readTree(writer.toString())).isEqualTo(expectedJson);
+    }
+
+    @Test
+    void when_fieldsWrittenToOutputStream_then_jsonWrittenAndStreamLeftOpen() throws IOException {
+        assertFieldsWrittenInMapperFormat(new ObjectMapper());
+    }
+
+    @Test
+    void when_fieldsWrittenToOutputStreamWithCborMapper_then_cborWritten() throws IOException {
+        assertFieldsWrittenInMapperFormat(new CBORMapper());
+    }
+
+    @Test
+    void when_fieldsWrittenToOutputStreamWithSmileMapper_then_smileWritten() throws IOException {
+        assertFieldsWrittenInMapperFormat(new SmileMapper());
+    }
+
+    @Test
+    void when_fieldsWrittenToGsonJsonWriter_then_jsonMatchesSelectedFields() throws IOException {
+
+        // Arrange
+        final var gson = new Gson();
+        final var selection = restQlQuery.select(
+                ID,
+                TEXT,
+                AUTHOR_DOT_PET_DOT_NICK_NAME,
+                AUTHOR_DOT_PET_DOT_AGE,
+                AUTHOR_DOT_PHONE_NUMBERS,
+                COMMENTS_DOT_AUTHOR_DOT_ID,
+                COMMENTS_DOT_REPLIES
+        );
+        final var expectedJson = JsonParser.parseString(gson.toJson(selection.from(post)));
+        final var writer = new StringWriter();
+
+        // Act
+        try (var jsonWriter = new JsonWriter(writer)) {
+            selection.writeTo(post, jsonWriter, gson);
+        }
+
+        // Assert
+        assertThat(JsonParser.parseString(writer.toString())).isEqualTo(expectedJson);
+    }
+
     @Test
     void when_nullFieldSelected_then_fieldsReturned() {
 
@@ -521,6 +722,49 @@ public class RestQlQueryTestTest extends RestQlQueryTestConfiguration {
         assertThat(actualSelectedFields).containsExactlyInAnyOrderEntriesOf(expectedSelectedPostFields);
     }
 
+    @Test
+    void when_overlappingFieldsSelectedInNestedLists_then_fieldsReturned() {
+
+        // Arrange
+        final var expectedSelectedPostFields = Map.of(
+                COMMENTS, post.getComments().stream()
+                        .map(comment -> Map.of(
+                                ID, comment.getId(),
+                                TEXT, comment.getText(),
+                                REPLIES, comment.getReplies().stream()
+                                        .map(reply -> Map.of(ID, reply.getId()))
+                                        .toList()
+                        )).toList()
+        );
+
+        // Act
+        final var actualSelectedFields = restQlQuery.select(
+                COMMENTS_DOT_ID,
+                COMMENTS_DOT_TEXT,
+                COMMENTS_DOT_REPLIES_DOT_ID
+        ).from(post);
+
+        // Assert
+        assertThat(actualSelectedFields).containsExactlyInAnyOrderEntriesOf(expectedSelectedPostFields);
+    }
+
+    @Test
+    void when_descendantFieldOfNullFieldSelected_then_nullFieldReturned() {
+
+        // Arrange
+        final var postWithNullAuthor = Instancio.of(Post.class)
+                .set(Select.field(AUTHOR), null)
+                .create();
+        final Map<String, Object> expectedSelectedPostFields = new HashMap<>();
+        expectedSelectedPostFields.put(AUTHOR, null);
+
+        // Act
+        final var actualSelectedFields = restQlQuery.select(AUTHOR_DOT_ID, AUTHOR_DOT_EMAIL).from(postWithNullAuthor);
+
+        // Assert
+        assertThat(actualSelectedFields).containsExactlyInAnyOrderEntriesOf(expectedSelectedPostFields);
+    }
+
     @Test
     void when_childFieldOfListTypeAsNullSelected_then_fieldsReturned() {
 
@@ -731,4 +975,155 @@ public class RestQlQueryTestTest extends RestQlQueryTestConfiguration {
         // Assert
         assertThat(entityNotInformedException.getMessage()).isEqualTo("Entity not informed.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void when_multipleEntitiesSelected_then_fieldsReturnedForEachEntityInOrder() {
+
+        // Arrange
+        final List<Post> posts = Instancio.ofList(Post.class).size(3).create();
+        final var expectedSelectedFields = posts.stream()
+                .map(p -> Map.of(ID, p.getId(), AUTHOR, Map.of(EMAIL, p.getAuthor().getEmail())))
+                .toList();
+
+        // Act
+        final var actualSelectedFields = restQlQuery.select(ID, AUTHOR_DOT_EMAIL).fromAll(posts);
+
+        // Assert
+        assertThat(actualSelectedFields).containsExactlyElementsOf(expectedSelectedFields);
+    }
+
+    @Test
+    void when_entitiesOfDifferentClassesSelected_then_fieldsReturnedForEachEntity() {
+
+        // Arrange
+        final var comment = post.getComments().getFirst();
+        final var entities = Arrays.asList(post, null, comment, post);
+
+        // Act
+        final var actualSelectedFields = restQlQuery.select(ID, TEXT).fromAll(entities);
+
+        // Assert
+        assertThat(actualSelectedFields).containsExactly(
+                Map.of(ID, post.getId(), TEXT, post.getText()),
+                null,
+                Map.of(ID, comment.getId(), TEXT, comment.getText()),
+                Map.of(ID, post.getId(), TEXT, post.getText())
+        );
+    }
+
+    @Test
+    void when_entitiesInformedAsNull_then_entityNotInformedExceptionReturned() {
+        // Act
+        final var entityNotInformedException = assertThrows(EntityNotInformedException.class, () ->
+                restQlQuery.select(ID).fromAll(null)
+        );
+
+        // Assert
+        assertThat(entityNotInformedException.getMessage()).isEqualTo("Entities not informed.");
+    }
+
+    @Test
+    void when_selectionExplained_then_resolvedFieldsAndVisitsReturnedPerNode() {
+
+        // Arrange
+        final int comments = post.getComments().size();
+        final int replies = post.getComments().stream().mapToInt(comment -> comment.getReplies().size()).sum();
+
+        // Act
+        final var explanation = restQlQuery.select(ID, AUTHOR_DOT_NICK_NAME, COMMENTS_DOT_REPLIES_DOT_TEXT)
+                .explain(post);
+
+        // Assert
+        assertThat(explanation.resolution()).isEqualTo(FieldResolution.ROOT);
+        assertThat(explanation.visits()).isEqualTo(1);
+        assertThat(explanation.nanos()).isPositive();
+
+        final var nickName = explanation.getChild(AUTHOR).getChild(NICK_NAME);
+        assertThat(nickName.resolution()).isEqualTo(FieldResolution.SERIALIZED_NAME);
+        assertThat(nickName.javaField()).isEqualTo("nickName");
+        assertThat(nickName.declaringClass()).isEqualTo(Author.class);
+
+        final var commentsNode = explanation.getChild(COMMENTS);
+        assertThat(commentsNode.resolution()).isEqualTo(FieldResolution.RAW_NAME);
+        assertThat(commentsNode.collections()).isEqualTo(1);
+        assertThat(commentsNode.collectionElements()).isEqualTo(comments);
+        assertThat(commentsNode.getChild(REPLIES).visits()).isEqualTo(comments);
+        assertThat(commentsNode.getChild(REPLIES).collectionElements()).isEqualTo(replies);
+        assertThat(commentsNode.getChild(REPLIES).getChild(TEXT).visits()).isEqualTo(replies);
+    }
+
+    @Test
+    void when_leafCollectionExplained_then_collectionSizeReturned() {
+
+        // Act
+        final var explanation = restQlQuery.select(AUTHOR_DOT_PHONE_NUMBERS).explain(post);
+
+        // Assert
+        final var phoneNumbersNode = explanation.getChild(AUTHOR).getChild(PHONE_NUMBERS);
+        assertThat(phoneNumbersNode.collections()).isEqualTo(1);
+        assertThat(phoneNumbersNode.collectionElements()).isEqualTo(post.getAuthor().getPhoneNumbers().size());
+        assertThat(phoneNumbersNode.maxCollectionSize()).isEqualTo(post.getAuthor().getPhoneNumbers().size());
+    }
+
+    @Test
+    void when_slicedCollectionSelected_then_onlyRequestedItemsReturned() {
+
+        // Arrange
+        final var postWithManyComments = Instancio.of(Post.class).create();
+        postWithManyComments.setComments(Instancio.ofList(Comment.class).size(30).create());
+        final List<Comment> comments = postWithManyComments.getComments();
+
+        // Act
+        final var actualSelectedFields = restQlQuery.select(
+                COMMENTS + "[0:20]" + DOT + ID,
+                AUTHOR + DOT + PHONE_NUMBERS + "[-1]"
+        ).from(postWithManyComments);
+
+        // Assert
+        assertThat(actualSelectedFields).containsExactlyInAnyOrderEntriesOf(Map.of(
+                COMMENTS, comments.subList(0, 20).stream().map(comment -> Map.of(ID, comment.getId())).toList(),
+                AUTHOR, Map.of(PHONE_NUMBERS, List.of(postWithManyComments.getAuthor().getPhoneNumbers().getLast()))
+        ));
+    }
+
+    @Test
+    void when_slicedCollectionStreamed_then_onlyRequestedItemsWritten() throws IOException {
+
+        // Arrange
+        final var writer = new StringWriter();
+        final var lastComments = post.getComments().subList(post.getComments().size() - 2, post.getComments().size());
+        final var expectedJson = new Gson().toJson(Map.of(
+                COMMENTS, lastComments.stream().map(comment -> Map.of(TEXT, comment.getText())).toList()
+        ));
+
+        // Act
+        try (var jsonWriter = new JsonWriter(writer)) {
+            restQlQuery.select(COMMENTS + "[-2:]" + DOT + TEXT).writeTo(post, jsonWriter);
+        }
+
+        // Assert
+        assertThat(JsonParser.parseString(writer.toString())).isEqualTo(JsonParser.parseString(expectedJson));
+    }
+
+    private void assertFieldsWrittenInMapperFormat(final ObjectMapper objectMapper) throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(ID, AUTHOR_DOT_NICK_NAME, AUTHOR_DOT_PHONE_NUMBERS, COMMENTS_DOT_TEXT);
+        final var expectedTree = objectMapper.readTree(objectMapper.writeValueAsBytes(selection.from(post)));
+        final var outputClosed = new AtomicBoolean();
+        final var output = new ByteArrayOutputStream() {
+
+            @Override
+            public void close() {
+                outputClosed.set(true);
+            }
+        };
+
+        // Act
+        selection.writeTo(post, output, objectMapper);
+
+        // Assert
+        assertThat(objectMapper.readTree(output.toByteArray())).isEqualTo(expectedTree);
+        assertThat(outputClosed).isFalse();
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.cleverton.heusner.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import io.github.cleverton.heusner.fixture.Comment;
+import io.github.cleverton.heusner.fixture.Post;
+import io.github.cleverton.heusner.projection.FieldResolution;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TreeRestQlQueryTest extends RestQlQueryTestConfiguration {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Gson gson = new Gson();
+    private final RestQlQuery restQlQuery = new RestQlQuery();
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        post = Instancio.create(Post.class);
+        post.setComments(Instancio.ofList(Comment.class).size(6).create());
+        post.getComments().forEach(comment -> comment.getReplies().add(Instancio.create(Comment.class)));
+    }
+
+    @Test
+    void when_jacksonTreeProjected_then_sameFieldsAsEntityProjectionReturned() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(
+                ID,
+                TEXT,
+                AUTHOR_DOT_NICK_NAME,
+                AUTHOR_DOT_PHONE_NUMBERS,
+                COMMENTS_DOT_REPLIES_DOT_TEXT
+        );
+        final var tree = objectMapper.valueToTree(post);
+
+        // Act
+        final Map<String, Object> projectedTree = selection.from(tree);
+
+        // Assert
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsBytes(projectedTree)))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(selection.from(post))));
+    }
+
+    @Test
+    void when_gsonTreeProjectedWithSlices_then_sameFieldsAsEntityProjectionReturned() {
+
+        // Arrange
+        final var selection = restQlQuery.select(
+                ID,
+                COMMENTS + "[1:3]" + DOT + TEXT,
+                AUTHOR + DOT + PHONE_NUMBERS + "[-2:]"
+        );
+        final var tree = gson.toJsonTree(post);
+
+        // Act
+        final Map<String, Object> projectedTree = selection.from(tree);
+
+        // Assert
+        assertThat(JsonParser.parseString(gson.toJson(projectedTree)))
+                .isEqualTo(JsonParser.parseString(gson.toJson(selection.from(post))));
+        assertThat(projectedTree.get(COMMENTS)).asList().hasSize(2);
+    }
+
+    @Test
+    void when_objectFieldSelectedFromTree_then_fieldConvertedToMap() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(AUTHOR);
+        final var tree = objectMapper.readTree("{\"author\": {\"id\": 7, \"books\": [\"a\", null]}}");
+
+        // Act
+        final Map<String, Object> projectedTree = selection.from(tree);
+
+        // Assert
+        assertThat(projectedTree).isEqualTo(Map.of(AUTHOR, Map.of(ID, 7, BOOKS, Arrays.asList("a", null))));
+    }
+
+    @Test
+    void when_gsonTreeWithDecimalsProjected_then_numbersKeepTheirValue() {
+
+        // Arrange
+        final var selection = restQlQuery.select(ID, TEXT, AUTHOR_DOT_ID);
+        final var tree = JsonParser.parseString(
+                "{\"id\": 1.0, \"text\": 12345678901234567890.123456789, \"author\": {\"id\": 7}}"
+        );
+
+        // Act
+        final Map<String, Object> projectedTree = selection.from(tree);
+
+        // Assert
+        assertThat(projectedTree).isEqualTo(Map.of(
+                ID, new BigDecimal("1.0"),
+                TEXT, new BigDecimal("12345678901234567890.123456789"),
+                AUTHOR, Map.of(ID, 7L)
+        ));
+        assertThat(JsonParser.parseString(gson.toJson(projectedTree))).isEqualTo(tree);
+    }
+
+    @Test
+    void when_fieldMissingFromTree_then_fieldOmitted() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(ID, TEXT, AUTHOR_DOT_EMAIL);
+        final var tree = objectMapper.readTree("{\"id\": 1, \"text\": null, \"author\": {}}");
+
+        // Act
+        final Map<String, Object> projectedTree = selection.from(tree);
+
+        // Assert
+        assertThat(projectedTree).containsOnlyKeys(ID, TEXT, AUTHOR);
+        assertThat(projectedTree.get(TEXT)).isNull();
+        assertThat(projectedTree.get(AUTHOR)).isEqualTo(Map.of());
+    }
+
+    @Test
+    void when_treeArrayProjected_then_eachElementProjected() {
+
+        // Arrange
+        final List<Post> posts = Instancio.ofList(Post.class).size(3).create();
+        final var selection = restQlQuery.select(ID, AUTHOR_DOT_ID);
+
+        // Act
+        final List<Map<String, Object>> projectedTrees = selection.fromAll(gson.toJsonTree(posts).getAsJsonArray());
+
+        // Assert
+        assertThat(JsonParser.parseString(gson.toJson(projectedTrees)))
+                .isEqualTo(JsonParser.parseString(gson.toJson(selection.fromAll(posts))));
+    }
+
+    @Test
+    void when_treeWrittenToJacksonGenerator_then_jsonMatchesProjectedTree() throws IOException {
+
+        // Arrange
+        final var selection = restQlQuery.select(ID, AUTHOR_DOT_BOOKS, COMMENTS + "[0:2]" + DOT + AUTHOR_DOT_ID);
+        final var tree = objectMapper.valueToTree(post);
+        final var writer = new StringWriter();
+
+        // Act
+        try (var generator = objectMapper.createGenerator(writer)) {
+            selection.writeTo(tree, generator);
+        }
+
+        // Assert
+        assertThat(objectMapper.readTree(writer.toString()))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(selection.from(tree))));
+    }
+
+    @Test
+    void when_jacksonTreeExplained_then_treeFieldsAndCollectionSizesReturned() {
+
+        // Arrange
+        final var selection = restQlQuery.select(ID, AUTHOR + DOT + NAME, COMMENTS + "[1:3]" + DOT + TEXT);
+        final var tree = objectMapper.valueToTree(post);
+
+        // Act
+        final var explanation = selection.explain(tree);
+
+        // Assert
+        final var commentsNode = explanation.getChild(COMMENTS);
+        assertThat(explanation.resolution()).isEqualTo(FieldResolution.ROOT);
+        assertThat(explanation.getChild(AUTHOR).getChild(NAME).resolution()).isEqualTo(FieldResolution.RAW_NAME);
+        assertThat(explanation.getChild(AUTHOR).getChild(NAME).visits()).isEqualTo(1);
+        assertThat(commentsNode.collections()).isEqualTo(1);
+        assertThat(commentsNode.collectionElements()).isEqualTo(2);
+        assertThat(commentsNode.getChild(TEXT).visits()).isEqualTo(2);
+    }
+
+    @Test
+    void when_scalarTreeProjected_then_illegalArgumentExceptionReturned() {
+
+        // Arrange
+        final var selection = restQlQuery.select(ID);
+        final var tree = JsonParser.parseString("42");
+
+        // Act
+        final var illegalArgumentException = assertThrows(IllegalArgumentException.class, () ->
+                selection.from(tree)
+        );
+
+        // Assert
+        assertThat(illegalArgumentException.getMessage()).isEqualTo("The JSON tree must be an object.");
+    }
+}